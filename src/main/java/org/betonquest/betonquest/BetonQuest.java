@@ -36,11 +36,14 @@ import org.betonquest.betonquest.conversation.ConversationColors;
 import org.betonquest.betonquest.data.PlayerDataStorage;
 import org.betonquest.betonquest.database.AsyncSaver;
 import org.betonquest.betonquest.database.Backup;
+import org.betonquest.betonquest.database.CoalescingSaver;
 import org.betonquest.betonquest.database.Database;
 import org.betonquest.betonquest.database.GlobalData;
 import org.betonquest.betonquest.database.MySQL;
+import org.betonquest.betonquest.database.PointLeaderboards;
 import org.betonquest.betonquest.database.SQLite;
 import org.betonquest.betonquest.database.Saver;
+import org.betonquest.betonquest.id.IDCache;
 import org.betonquest.betonquest.item.QuestItemHandler;
 import org.betonquest.betonquest.logger.DefaultBetonQuestLoggerFactory;
 import org.betonquest.betonquest.logger.HandlerFactory;
@@ -193,8 +196,7 @@ public class BetonQuest extends JavaPlugin {
     /**
      * The database saver for Quest Data.
      */
-    @SuppressWarnings("PMD.DoNotUseThreads")
-    private AsyncSaver saver;
+    private Saver saver;
 
     /**
      * The plugin updater.
@@ -206,6 +208,11 @@ public class BetonQuest extends JavaPlugin {
      */
     private GlobalData globalData;
 
+    /**
+     * The in-memory leaderboards of the points.
+     */
+    private PointLeaderboards pointLeaderboards;
+
     /**
      * The Player Hider instance.
      */
@@ -399,11 +406,14 @@ public class BetonQuest extends JavaPlugin {
 
         setupDatabase();
 
-        saver = new AsyncSaver(loggerFactory.create(AsyncSaver.class, "Database"));
-        saver.start();
+        setupSaver();
         Backup.loadDatabaseFromBackup(configAccessorFactory);
 
         globalData = new GlobalData(loggerFactory.create(GlobalData.class), saver);
+        pointLeaderboards = new PointLeaderboards(loggerFactory.create(PointLeaderboards.class), this,
+                Math.max(0, config.getInt("mysql.coalesce_interval", 100)));
+        Bukkit.getScheduler().runTaskTimerAsynchronously(this, pointLeaderboards::reconcile,
+                PointLeaderboards.RECONCILE_INTERVAL, PointLeaderboards.RECONCILE_INTERVAL);
 
         playerDataStorage = new PlayerDataStorage(loggerFactory, loggerFactory.create(PlayerDataStorage.class), pluginMessage);
 
@@ -487,6 +497,21 @@ public class BetonQuest extends JavaPlugin {
         log.info("BetonQuest successfully enabled!");
     }
 
+    @SuppressWarnings("PMD.DoNotUseThreads")
+    private void setupSaver() {
+        final AsyncSaver asyncSaver = new AsyncSaver(loggerFactory.create(AsyncSaver.class, "Database"));
+        asyncSaver.start();
+        final int coalesceInterval = config.getInt("mysql.coalesce_interval", 100);
+        if (coalesceInterval <= 0) {
+            saver = asyncSaver;
+            return;
+        }
+        final CoalescingSaver coalescingSaver = new CoalescingSaver(asyncSaver);
+        Bukkit.getPluginManager().registerEvents(coalescingSaver, this);
+        Bukkit.getScheduler().runTaskTimerAsynchronously(this, coalescingSaver::flush, coalesceInterval, coalesceInterval);
+        saver = coalescingSaver;
+    }
+
     private void setupDatabase() {
         final boolean mySQLEnabled = config.getBoolean("mysql.enabled", true);
         if (mySQLEnabled) {
@@ -575,7 +600,9 @@ public class BetonQuest extends JavaPlugin {
      * @see QuestRegistry#loadData(Collection)
      */
     public void loadData() {
+        IDCache.clear();
         questRegistry.loadData(Config.getPackages().values());
+        JournalMainPage.reload();
         playerDataStorage.startObjectives();
         rpgMenu.reloadData();
         Bukkit.getPluginManager().callEvent(new LoadDataEvent());
@@ -613,13 +640,18 @@ public class BetonQuest extends JavaPlugin {
         loadData();
         playerDataStorage.reloadProfiles(PlayerConverter.getOnlineProfiles());
 
-        if (playerHider != null) {
-            playerHider.stop();
+        final PlayerHider previousHider = playerHider;
+        playerHider = null;
+        if (previousHider != null) {
+            previousHider.cancel();
         }
         try {
-            playerHider = new PlayerHider(this, questTypeAPI);
+            playerHider = new PlayerHider(this, questTypeAPI, previousHider);
         } catch (final QuestException e) {
             log.error("Could not start PlayerHider! " + e.getMessage(), e);
+            if (previousHider != null) {
+                previousHider.stop();
+            }
         }
     }
 
@@ -710,6 +742,15 @@ public class BetonQuest extends JavaPlugin {
         return globalData;
     }
 
+    /**
+     * Retrieves the in-memory leaderboards of the points.
+     *
+     * @return the point leaderboards
+     */
+    public PointLeaderboards getPointLeaderboards() {
+        return pointLeaderboards;
+    }
+
     /**
      * Returns the {@link Saver} instance used by BetonQuest.
      *
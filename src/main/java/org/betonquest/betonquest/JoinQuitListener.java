@@ -124,4 +124,14 @@ public class JoinQuitListener implements Listener {
         }
         playerDataStorage.remove(onlineProfile);
     }
+
+    /**
+     * Removes the cached profile of the player after all other listeners handled the quit.
+     *
+     * @param event the quit event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void removeProfile(final PlayerQuitEvent event) {
+        PlayerConverter.removeProfile(event.getPlayer());
+    }
 }
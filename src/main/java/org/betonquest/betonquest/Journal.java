@@ -1,7 +1,6 @@
 package org.betonquest.betonquest;
 
 import com.google.common.collect.Lists;
-import org.apache.commons.lang3.StringUtils;
 import org.betonquest.betonquest.api.bukkit.event.PlayerJournalAddEvent;
 import org.betonquest.betonquest.api.bukkit.event.PlayerJournalDeleteEvent;
 import org.betonquest.betonquest.api.config.ConfigurationFile;
@@ -14,11 +13,9 @@ import org.betonquest.betonquest.config.Config;
 import org.betonquest.betonquest.config.PluginMessage;
 import org.betonquest.betonquest.database.Saver.Record;
 import org.betonquest.betonquest.database.UpdateType;
-import org.betonquest.betonquest.id.ConditionID;
 import org.betonquest.betonquest.instruction.variable.VariableString;
 import org.betonquest.betonquest.notify.Notify;
 import org.betonquest.betonquest.util.Utils;
-import org.betonquest.betonquest.variables.GlobalVariableResolver;
 import org.bukkit.Material;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
@@ -31,13 +28,10 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Represents player's journal.
@@ -62,6 +56,11 @@ public class Journal {
 
     private final String lang;
 
+    /**
+     * If an update of the journal is scheduled for the next tick.
+     */
+    private final AtomicBoolean updateScheduled = new AtomicBoolean();
+
     @Nullable
     private String mainPage;
 
@@ -196,13 +195,14 @@ public class Journal {
         // remove previous texts
         texts.clear();
         // generate the first page
-        mainPage = generateMainPage();
+        mainPage = JournalMainPage.get().render(profile, lang);
+        final boolean showDate = "false".equalsIgnoreCase(config.getString("journal.hide_date"));
+        final SimpleDateFormat dateFormat = showDate ? new SimpleDateFormat(config.getString("date_format"), Locale.ROOT) : null;
         for (final Pointer pointer : pointers) {
             // if date should not be hidden, generate the date prefix
             String datePrefix = "";
-            if ("false".equalsIgnoreCase(config.getString("journal.hide_date"))) {
-                final String date = new SimpleDateFormat(config.getString("date_format"), Locale.ROOT)
-                        .format(pointer.timestamp());
+            if (dateFormat != null) {
+                final String date = dateFormat.format(pointer.timestamp());
                 final String[] dateParts = date.split(" ");
                 final String day = "§" + config.getString("journal_colors.date.day") + dateParts[0];
                 String hour = "";
@@ -254,106 +254,6 @@ public class Journal {
         }
     }
 
-    /**
-     * Generates the main page for this journal.
-     *
-     * @return the main page string or null, if there is no main page
-     */
-    @SuppressWarnings({"PMD.NcssCount", "PMD.NPathComplexity", "PMD.CognitiveComplexity"})
-    @Nullable
-    private String generateMainPage() {
-        final Map<Integer, List<String>> lines = new HashMap<>(); // holds text lines with their priority
-        final Set<Integer> numbers = new HashSet<>(); // stores numbers that are used, so there's no need to search them
-        for (final QuestPackage pack : Config.getPackages().values()) {
-            final String packName = pack.getQuestPath();
-            final ConfigurationSection section = pack.getConfig().getConfigurationSection("journal_main_page");
-            if (section == null) {
-                continue;
-            }
-            for (final String key : section.getKeys(false)) {
-                final int number = section.getInt(key + ".priority", -1);
-                if (number >= 0) {
-                    final String rawConditions = GlobalVariableResolver.resolve(pack, section.getString(key + ".conditions"));
-                    if (rawConditions != null && !rawConditions.isEmpty()) {
-                        try {
-                            final List<ConditionID> pageConditions = new ArrayList<>();
-                            for (final String conditionString : rawConditions.split(",")) {
-                                if (!conditionString.isEmpty()) {
-                                    pageConditions.add(new ConditionID(pack, conditionString));
-                                }
-                            }
-
-                            if (!BetonQuest.getInstance().getQuestTypeAPI().conditions(profile, pageConditions)) {
-                                continue;
-                            }
-                        } catch (final QuestException e) {
-                            log.warn(pack, "Error while generating main page in " + profile + " journal: " + e.getMessage(), e);
-                            continue;
-                        }
-                    }
-                    // here conditions are met, get the text in player's language
-                    String text;
-                    if (section.isConfigurationSection(key + ".text")) {
-                        text = section.getString(key + ".text." + lang);
-                        if (text == null) {
-                            text = section.getString(key + ".text." + Config.getLanguage());
-                        }
-                        if (text == null) {
-                            text = section.getString(key + ".text.en");
-                        }
-                    } else {
-                        text = section.getString(key + ".text");
-                    }
-                    if (text == null || text.isEmpty()) {
-                        continue;
-                    }
-                    text = GlobalVariableResolver.resolve(pack, text);
-                    try {
-                        text = new VariableString(BetonQuest.getInstance().getVariableProcessor(), pack, text).getValue(profile);
-                    } catch (final QuestException e) {
-                        log.warn(pack, "Error while creating variable on main page in "
-                                + profile + " journal: " + e.getMessage(), e);
-                    }
-                    // add the text to HashMap
-                    numbers.add(number);
-                    final List<String> linesOrder;
-                    if (lines.containsKey(number)) {
-                        linesOrder = lines.get(number);
-                    } else {
-                        linesOrder = new ArrayList<>();
-                        lines.put(number, linesOrder);
-                    }
-                    linesOrder.add(text + "§r"); // reset the formatting
-                } else {
-                    log.warn(pack, "Priority of " + packName + "." + key
-                            + " journal main page line is not defined");
-                }
-            }
-        }
-        if (numbers.isEmpty()) {
-            return null;
-        }
-        return sort(numbers, lines);
-    }
-
-    @SuppressWarnings("NullAway")
-    private String sort(final Set<Integer> numbers, final Map<Integer, List<String>> lines) {
-        // now all lines from all packages are extracted, sort numbers
-        Integer[] sorted = new Integer[numbers.size()];
-        sorted = numbers.toArray(sorted);
-        Arrays.sort(sorted);
-        // build the string and return it
-        final List<String> sortedLines = new ArrayList<>();
-        for (final int i : sorted) {
-            final List<String> linesOrder = lines.get(i);
-            String[] sortedLinesOrder = new String[linesOrder.size()];
-            sortedLinesOrder = linesOrder.toArray(sortedLinesOrder);
-            Arrays.sort(sortedLinesOrder);
-            sortedLines.addAll(Arrays.asList(sortedLinesOrder));
-        }
-        return StringUtils.join(sortedLines, '\n').replace('&', '§');
-    }
-
     /**
      * Clears the Journal completely but doesn't touch the database.
      */
@@ -465,6 +365,25 @@ public class Journal {
         }
     }
 
+    /**
+     * Updates the journal on the next tick.
+     * <p>
+     * All calls until then are coalesced into a single update,
+     * so frequent changes like objective progress only rebuild the journal once per tick.
+     */
+    public void scheduleUpdate() {
+        if (!updateScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        final BetonQuest plugin = BetonQuest.getInstance();
+        plugin.getServer().getScheduler().runTask(plugin, () -> {
+            updateScheduled.set(false);
+            if (profile.getOnlineProfile().isPresent()) {
+                update();
+            }
+        });
+    }
+
     /**
      * Removes journal from player's inventory.
      *
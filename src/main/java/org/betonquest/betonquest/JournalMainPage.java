@@ -0,0 +1,229 @@
+package org.betonquest.betonquest;
+
+import org.apache.commons.lang3.StringUtils;
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.api.quest.QuestException;
+import org.betonquest.betonquest.config.Config;
+import org.betonquest.betonquest.id.ConditionID;
+import org.betonquest.betonquest.instruction.variable.VariableString;
+import org.betonquest.betonquest.variables.GlobalVariableResolver;
+import org.bukkit.configuration.ConfigurationSection;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The main page lines of all packages, parsed once and shared by all journals until the next reload.
+ * <p>
+ * Lines without conditions and variables are resolved once while parsing,
+ * so rendering a main page only checks the conditions and variables of the remaining lines.
+ * Their results are not cached per profile, as conditions and variables may depend on any state of the player,
+ * so they are checked again on every render.
+ */
+public final class JournalMainPage {
+    /**
+     * The parsed main page, or null if it has to be parsed again.
+     */
+    @Nullable
+    private static volatile JournalMainPage instance;
+
+    /**
+     * Custom {@link BetonQuestLogger} instance for this class.
+     */
+    private final BetonQuestLogger log;
+
+    /**
+     * All valid lines sorted by their priority.
+     */
+    private final List<Line> lines;
+
+    private JournalMainPage(final BetonQuestLogger log, final List<Line> lines) {
+        this.log = log;
+        this.lines = lines;
+    }
+
+    /**
+     * Gets the parsed main page, parsing it from the loaded packages if necessary.
+     *
+     * @return the parsed main page
+     */
+    public static JournalMainPage get() {
+        JournalMainPage mainPage = instance;
+        if (mainPage == null) {
+            mainPage = parse(BetonQuest.getInstance().getLoggerFactory().create(JournalMainPage.class));
+            instance = mainPage;
+        }
+        return mainPage;
+    }
+
+    /**
+     * Discards the parsed main page, so it is parsed again from the reloaded packages on next use.
+     */
+    public static void reload() {
+        instance = null;
+    }
+
+    private static JournalMainPage parse(final BetonQuestLogger log) {
+        final List<Line> lines = new ArrayList<>();
+        for (final QuestPackage pack : Config.getPackages().values()) {
+            final ConfigurationSection section = pack.getConfig().getConfigurationSection("journal_main_page");
+            if (section == null) {
+                continue;
+            }
+            for (final String key : section.getKeys(false)) {
+                final int priority = section.getInt(key + ".priority", -1);
+                if (priority < 0) {
+                    log.warn(pack, "Priority of " + pack.getQuestPath() + "." + key
+                            + " journal main page line is not defined");
+                    continue;
+                }
+                try {
+                    lines.add(parseLine(log, pack, section, key, priority));
+                } catch (final QuestException e) {
+                    log.warn(pack, "Error while parsing journal main page line '" + key + "': " + e.getMessage(), e);
+                }
+            }
+        }
+        lines.sort(Comparator.comparingInt(Line::priority));
+        return new JournalMainPage(log, lines);
+    }
+
+    private static Line parseLine(final BetonQuestLogger log, final QuestPackage pack, final ConfigurationSection section,
+                                  final String key, final int priority) throws QuestException {
+        final List<ConditionID> conditions = new ArrayList<>();
+        final String rawConditions = GlobalVariableResolver.resolve(pack, section.getString(key + ".conditions"));
+        if (rawConditions != null) {
+            for (final String conditionString : rawConditions.split(",")) {
+                if (!conditionString.isEmpty()) {
+                    conditions.add(ConditionID.of(pack, conditionString));
+                }
+            }
+        }
+        final Map<String, Text> texts = new HashMap<>();
+        if (section.isConfigurationSection(key + ".text")) {
+            final ConfigurationSection textSection = section.getConfigurationSection(key + ".text");
+            if (textSection != null) {
+                for (final String lang : textSection.getKeys(false)) {
+                    texts.put(lang, parseText(log, pack, textSection.getString(lang)));
+                }
+            }
+            return new Line(pack, priority, conditions, texts, null);
+        }
+        return new Line(pack, priority, conditions, texts, parseText(log, pack, section.getString(key + ".text")));
+    }
+
+    private static Text parseText(final BetonQuestLogger log, final QuestPackage pack, @Nullable final String rawText) {
+        if (rawText == null || rawText.isEmpty()) {
+            return Text.EMPTY;
+        }
+        final String text = GlobalVariableResolver.resolve(pack, rawText);
+        try {
+            final VariableString variable = new VariableString(BetonQuest.getInstance().getVariableProcessor(), pack, text);
+            return variable.isConstant() ? new Text(text, null) : new Text(text, variable);
+        } catch (final QuestException e) {
+            log.warn(pack, "Error while creating variable on journal main page: " + e.getMessage(), e);
+            return new Text(text, null);
+        }
+    }
+
+    /**
+     * Renders the main page for a profile.
+     * The conditions and variables of all lines that have them are checked again.
+     *
+     * @param profile the profile to render the main page for
+     * @param lang    the language of the profile
+     * @return the main page or null if no line is shown
+     */
+    @Nullable
+    public String render(final Profile profile, final String lang) {
+        final List<String> rendered = new ArrayList<>();
+        int groupStart = 0;
+        int groupPriority = -1;
+        for (final Line line : lines) {
+            if (line.priority() != groupPriority) {
+                Collections.sort(rendered.subList(groupStart, rendered.size()));
+                groupStart = rendered.size();
+                groupPriority = line.priority();
+            }
+            final String text = renderLine(line, profile, lang);
+            if (text != null) {
+                rendered.add(text + "§r");
+            }
+        }
+        Collections.sort(rendered.subList(groupStart, rendered.size()));
+        if (rendered.isEmpty()) {
+            return null;
+        }
+        return StringUtils.join(rendered, '\n').replace('&', '§');
+    }
+
+    @Nullable
+    private String renderLine(final Line line, final Profile profile, final String lang) {
+        if (!line.conditions().isEmpty()
+                && !BetonQuest.getInstance().getQuestTypeAPI().conditions(profile, line.conditions())) {
+            return null;
+        }
+        final Text text = line.text(lang);
+        if (text == null || text.raw().isEmpty()) {
+            return null;
+        }
+        final VariableString variable = text.variable();
+        if (variable == null) {
+            return text.raw();
+        }
+        try {
+            return variable.getValue(profile);
+        } catch (final QuestException e) {
+            log.warn(line.pack(), "Error while creating variable on main page in "
+                    + profile + " journal: " + e.getMessage(), e);
+            return text.raw();
+        }
+    }
+
+    /**
+     * A single line of the main page.
+     *
+     * @param pack        the package defining the line
+     * @param priority    the priority of the line
+     * @param conditions  the conditions to show the line
+     * @param texts       the texts per language, if the text is translated
+     * @param defaultText the text, if it is not translated
+     */
+    private record Line(QuestPackage pack, int priority, List<ConditionID> conditions, Map<String, Text> texts,
+                        @Nullable Text defaultText) {
+        @Nullable
+        private Text text(final String lang) {
+            if (defaultText != null) {
+                return defaultText;
+            }
+            Text text = texts.get(lang);
+            if (text == null) {
+                text = texts.get(Config.getLanguage());
+            }
+            if (text == null) {
+                text = texts.get("en");
+            }
+            return text;
+        }
+    }
+
+    /**
+     * The text of a line.
+     *
+     * @param raw      the text with resolved global variables
+     * @param variable the variable resolving the text or null if it is constant
+     */
+    private record Text(String raw, @Nullable VariableString variable) {
+        /**
+         * A text that is not shown.
+         */
+        private static final Text EMPTY = new Text("", null);
+    }
+}
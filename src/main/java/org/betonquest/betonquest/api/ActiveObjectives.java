@@ -0,0 +1,58 @@
+package org.betonquest.betonquest.api;
+
+import org.betonquest.betonquest.api.profile.Profile;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the active {@link Objective}s of each profile.
+ * <p>
+ * Objectives register themselves when they are started or stopped for a profile,
+ * so the objectives of a profile can be looked up without checking every loaded objective.
+ */
+public final class ActiveObjectives {
+    /**
+     * The active objectives by profile.
+     */
+    private static final Map<Profile, Set<Objective>> ACTIVE = new ConcurrentHashMap<>();
+
+    private ActiveObjectives() {
+    }
+
+    /**
+     * Gets the active objectives of a profile.
+     *
+     * @param profile the {@link Profile} to get the objectives for
+     * @return a snapshot of the active objectives
+     */
+    public static List<Objective> get(final Profile profile) {
+        final Set<Objective> objectives = ACTIVE.get(profile);
+        return objectives == null ? List.of() : List.copyOf(objectives);
+    }
+
+    /**
+     * Marks an objective as active for a profile.
+     *
+     * @param profile   the {@link Profile} the objective was started for
+     * @param objective the started objective
+     */
+    /* default */ static void add(final Profile profile, final Objective objective) {
+        ACTIVE.computeIfAbsent(profile, key -> ConcurrentHashMap.newKeySet()).add(objective);
+    }
+
+    /**
+     * Marks an objective as inactive for a profile.
+     *
+     * @param profile   the {@link Profile} the objective was stopped for
+     * @param objective the stopped objective
+     */
+    /* default */ static void remove(final Profile profile, final Objective objective) {
+        ACTIVE.computeIfPresent(profile, (key, objectives) -> {
+            objectives.remove(objective);
+            return objectives.isEmpty() ? null : objectives;
+        });
+    }
+}
@@ -33,6 +33,15 @@ public abstract class ForceSyncHandler<T> {
         this.forceSync = forceSync;
     }
 
+    /**
+     * Checks if this handler has to be executed on the servers main thread.
+     *
+     * @return true if the execution is forced to be sync
+     */
+    public boolean isForceSync() {
+        return forceSync;
+    }
+
     /**
      * This methods implementation will be executed by the {@link ForceSyncHandler#handle(Profile)} method.
      *
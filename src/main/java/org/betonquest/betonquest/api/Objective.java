@@ -18,12 +18,20 @@ import org.betonquest.betonquest.id.ObjectiveID;
 import org.betonquest.betonquest.instruction.Instruction;
 import org.betonquest.betonquest.notify.Notify;
 import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.InvocationTargetException;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -61,14 +69,20 @@ public abstract class Objective {
 
     /**
      * Contains all data objects of the profiles with this objective active.
+     * It is only changed while synchronized on this objective but can be read from any thread.
      */
-    protected Map<Profile, ObjectiveData> dataMap = new HashMap<>();
+    protected Map<Profile, ObjectiveData> dataMap = new ConcurrentHashMap<>();
 
     /**
      * Should be set to the data class used to hold the objective specific information.
      */
     protected Class<? extends ObjectiveData> template = ObjectiveData.class;
 
+    /**
+     * The event subscriptions created with {@link #listen}, closed when the objective stops.
+     */
+    private final List<ObjectiveEventDispatcher.Subscription<?>> subscriptions = new ArrayList<>();
+
     /**
      * <p>
      * Creates new instance of the objective. The objective should parse
@@ -99,7 +113,7 @@ public abstract class Objective {
         for (int i = 0; i < length; i++) {
             final String event = i >= tempEvents1.length ? tempEvents2[i - tempEvents1.length] : tempEvents1[i];
             try {
-                events[i] = new EventID(instruction.getPackage(), event);
+                events[i] = EventID.of(instruction.getPackage(), event);
             } catch (final QuestException e) {
                 if (length == 1 && "ID is null".equals(e.getMessage())) {
                     throw new QuestException("Error while parsing objective events: No events are defined!", e);
@@ -115,7 +129,7 @@ public abstract class Objective {
             final String condition = i >= tempConditions1.length ? tempConditions2[i - tempConditions1.length]
                     : tempConditions1[i];
             try {
-                conditions[i] = new ConditionID(instruction.getPackage(), condition);
+                conditions[i] = ConditionID.of(instruction.getPackage(), condition);
             } catch (final QuestException e) {
                 throw new QuestException("Error while parsing objective conditions: " + e.getMessage(), e);
             }
@@ -131,6 +145,38 @@ public abstract class Objective {
      */
     public abstract void start();
 
+    /**
+     * Listens to an event through a listener shared with all objectives listening to the same event.
+     * The handler is only called if the player of the event has this objective active,
+     * so checking {@link #containsPlayer(Profile)} is not necessary.
+     * <p>
+     * Call this in {@link #start()}. The subscription is removed automatically when the objective stops.
+     *
+     * @param eventClass      the event type to listen to
+     * @param priority        the priority of the listener
+     * @param ignoreCancelled if cancelled events should be ignored
+     * @param playerExtractor the function extracting the player from the event, may return null
+     * @param handler         the handler called for players with this objective active
+     * @param <E>             the event type
+     */
+    protected final <E extends Event> void listen(final Class<E> eventClass, final EventPriority priority, final boolean ignoreCancelled,
+                                                  final Function<? super E, @Nullable Player> playerExtractor,
+                                                  final BiConsumer<? super E, OnlineProfile> handler) {
+        final ObjectiveEventDispatcher.Subscription<E> subscription = ObjectiveEventDispatcher.subscribe(
+                eventClass, priority, ignoreCancelled, playerExtractor, handler);
+        for (final Profile profile : dataMap.keySet()) {
+            subscription.add(profile.getPlayerUUID());
+        }
+        subscriptions.add(subscription);
+    }
+
+    private void closeSubscriptions() {
+        for (final ObjectiveEventDispatcher.Subscription<?> subscription : subscriptions) {
+            subscription.close();
+        }
+        subscriptions.clear();
+    }
+
     /**
      * This method is called by the plugin when the objective starts for a specific profile.
      *
@@ -247,7 +293,7 @@ public abstract class Objective {
         } catch (final QuestException exception) {
             try {
                 log.warn(instruction.getPackage(), "The notify system was unable to play a sound for the '"
-                        + messageName + "' category in '" + instruction.getID(ObjectiveID::new)
+                        + messageName + "' category in '" + instruction.getID(ObjectiveID::of)
                         + "'. Error was: '" + exception.getMessage() + "'");
             } catch (final QuestException e) {
                 log.reportException(instruction.getPackage(), e);
@@ -401,14 +447,23 @@ public abstract class Objective {
             start();
         }
         dataMap.put(profile, data);
+        ActiveObjectives.add(profile, this);
+        for (final ObjectiveEventDispatcher.Subscription<?> subscription : subscriptions) {
+            subscription.add(profile.getPlayerUUID());
+        }
         start(profile);
     }
 
     private void deactivateObjective(final Profile profile) {
         stop(profile);
         dataMap.remove(profile);
+        ActiveObjectives.remove(profile, this);
+        for (final ObjectiveEventDispatcher.Subscription<?> subscription : subscriptions) {
+            subscription.remove(profile.getPlayerUUID());
+        }
         if (dataMap.isEmpty()) {
             stop();
+            closeSubscriptions();
         }
     }
 
@@ -464,9 +519,11 @@ public abstract class Objective {
      */
     public void close() {
         stop();
+        closeSubscriptions();
         for (final Map.Entry<Profile, ObjectiveData> entry : dataMap.entrySet()) {
             final Profile profile = entry.getKey();
             stop(profile);
+            ActiveObjectives.remove(profile, this);
             BetonQuest.getInstance().getPlayerDataStorage().get(profile).addRawObjective(instruction.getID().getFullID(),
                     entry.getValue().toString());
         }
@@ -530,6 +587,11 @@ public abstract class Objective {
 
         protected String objID;
 
+        /**
+         * If a {@link QuestDataUpdateEvent} for the latest changes is scheduled for the next tick.
+         */
+        private final AtomicBoolean updateEventScheduled = new AtomicBoolean();
+
         /**
          * The ObjectiveData object is loaded from the database and the
          * constructor needs to parse the data in the instruction, so it can be
@@ -572,17 +634,27 @@ public abstract class Objective {
          * leave the server. However, if someone leaves before completing, they
          * will have to start this objective from scratch.
          * </p>
+         *
+         * <p>
+         * The database writes are collected by the saver and only the latest state is written.
+         * The {@link QuestDataUpdateEvent} and the journal update are coalesced to once per tick.
+         * </p>
          */
         protected final void update() {
             final Saver saver = BetonQuest.getInstance().getSaver();
+            final String data = toString();
             saver.add(new Saver.Record(UpdateType.REMOVE_OBJECTIVES, profile.getProfileUUID().toString(), objID));
-            saver.add(new Saver.Record(UpdateType.ADD_OBJECTIVES, profile.getProfileUUID().toString(), objID, toString()));
-            final QuestDataUpdateEvent event = new QuestDataUpdateEvent(profile, objID, toString());
-            final Server server = BetonQuest.getInstance().getServer();
-            server.getScheduler().runTask(BetonQuest.getInstance(), () -> server.getPluginManager().callEvent(event));
+            saver.add(new Saver.Record(UpdateType.ADD_OBJECTIVES, profile.getProfileUUID().toString(), objID, data));
+            if (updateEventScheduled.compareAndSet(false, true)) {
+                final Server server = BetonQuest.getInstance().getServer();
+                server.getScheduler().runTask(BetonQuest.getInstance(), () -> {
+                    updateEventScheduled.set(false);
+                    server.getPluginManager().callEvent(new QuestDataUpdateEvent(profile, objID, toString()));
+                });
+            }
             // update the journal so all possible variables display correct
             // information
-            BetonQuest.getInstance().getPlayerDataStorage().get(profile).getJournal().update();
+            BetonQuest.getInstance().getPlayerDataStorage().get(profile).getJournal().scheduleUpdate();
         }
     }
 
@@ -0,0 +1,278 @@
+package org.betonquest.betonquest.api;
+
+import org.betonquest.betonquest.BetonQuest;
+import org.betonquest.betonquest.api.profile.OnlineProfile;
+import org.betonquest.betonquest.util.PlayerConverter;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Dispatches Bukkit events to the objectives that are active for the player of the event.
+ * <p>
+ * Instead of registering one listener per objective instance, a single listener is registered per event type,
+ * priority and cancellation handling. It looks up the subscriptions of the event's player
+ * and resolves the player's profile only once for all of them.
+ */
+final class ObjectiveEventDispatcher {
+    /**
+     * The registered routes.
+     */
+    private static final Map<RouteKey, Route<?>> ROUTES = new ConcurrentHashMap<>();
+
+    private ObjectiveEventDispatcher() {
+    }
+
+    /**
+     * Subscribes a handler to an event type. The handler is only called for players added to the subscription.
+     * <p>
+     * Subscriptions with the same extractor instance share the lookup of their players,
+     * so shared extractors avoid extracting the player once per objective type.
+     *
+     * @param eventClass      the event type to listen to
+     * @param priority        the priority of the listener
+     * @param ignoreCancelled if cancelled events should be ignored
+     * @param playerExtractor the function extracting the player from the event, may return null
+     * @param handler         the handler called with the event and the player's profile
+     * @param <E>             the event type
+     * @return the new subscription without any players
+     */
+    @SuppressWarnings("unchecked")
+    /* default */ static <E extends Event> Subscription<E> subscribe(final Class<E> eventClass, final EventPriority priority,
+                                                                      final boolean ignoreCancelled,
+                                                                      final Function<? super E, @Nullable Player> playerExtractor,
+                                                                      final BiConsumer<? super E, OnlineProfile> handler) {
+        final RouteKey key = new RouteKey(eventClass, priority, ignoreCancelled);
+        final Route<E> route = (Route<E>) ROUTES.compute(key, (k, existing) -> {
+            final Route<E> target;
+            if (existing == null) {
+                target = new Route<>(k, eventClass);
+                Bukkit.getPluginManager().registerEvent(eventClass, target, priority, target, BetonQuest.getInstance(), ignoreCancelled);
+            } else {
+                target = (Route<E>) existing;
+            }
+            target.subscriptions++;
+            return target;
+        });
+        return new Subscription<>(route, route.index(playerExtractor), handler);
+    }
+
+    /**
+     * Identifies a route.
+     *
+     * @param eventClass      the event type
+     * @param priority        the listener priority
+     * @param ignoreCancelled if cancelled events are ignored
+     */
+    private record RouteKey(Class<? extends Event> eventClass, EventPriority priority, boolean ignoreCancelled) {
+    }
+
+    /**
+     * A single registered listener and the subscriptions per player extractor and player.
+     *
+     * @param <E> the event type
+     */
+    private static final class Route<E extends Event> implements Listener, EventExecutor {
+        /**
+         * The key of this route.
+         */
+        private final RouteKey key;
+
+        /**
+         * The event type.
+         */
+        private final Class<E> eventClass;
+
+        /**
+         * The subscriptions grouped by their player extractor.
+         */
+        private final List<Index<E>> indices;
+
+        /**
+         * The amount of open subscriptions of this route, only changed while holding the route's map entry.
+         */
+        private int subscriptions;
+
+        private Route(final RouteKey key, final Class<E> eventClass) {
+            this.key = key;
+            this.eventClass = eventClass;
+            this.indices = new CopyOnWriteArrayList<>();
+        }
+
+        /**
+         * Gets the index of a player extractor.
+         *
+         * @param playerExtractor the player extractor
+         * @return the existing or new index of the extractor
+         */
+        @SuppressWarnings("PMD.AvoidSynchronizedStatement")
+        private Index<E> index(final Function<? super E, @Nullable Player> playerExtractor) {
+            synchronized (indices) {
+                for (final Index<E> index : indices) {
+                    if (index.playerExtractor == playerExtractor) {
+                        return index;
+                    }
+                }
+                final Index<E> index = new Index<>(playerExtractor);
+                indices.add(index);
+                return index;
+            }
+        }
+
+        @Override
+        public void execute(final Listener listener, final Event event) {
+            if (!eventClass.isInstance(event)) {
+                return;
+            }
+            final E castEvent = eventClass.cast(event);
+            Player resolved = null;
+            OnlineProfile onlineProfile = null;
+            for (final Index<E> index : indices) {
+                final Player player = index.playerExtractor.apply(castEvent);
+                if (player == null) {
+                    continue;
+                }
+                final UUID playerID = player.getUniqueId();
+                final Set<Subscription<E>> playerSubscriptions = index.players.get(playerID);
+                if (playerSubscriptions == null || playerSubscriptions.isEmpty()) {
+                    continue;
+                }
+                if (!player.equals(resolved)) {
+                    resolved = player;
+                    onlineProfile = PlayerConverter.getID(player);
+                }
+                for (final Subscription<E> subscription : playerSubscriptions) {
+                    if (subscription.players.contains(playerID)) {
+                        subscription.handler.accept(castEvent, onlineProfile);
+                    }
+                }
+            }
+        }
+
+        private void close() {
+            ROUTES.computeIfPresent(key, (k, route) -> {
+                route.subscriptions--;
+                if (route.subscriptions > 0) {
+                    return route;
+                }
+                HandlerList.unregisterAll(route);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * The subscriptions of a route sharing one player extractor, by player.
+     *
+     * @param <E> the event type
+     */
+    private static final class Index<E extends Event> {
+        /**
+         * The player extractor.
+         */
+        private final Function<? super E, @Nullable Player> playerExtractor;
+
+        /**
+         * The subscriptions per player UUID.
+         */
+        private final Map<UUID, Set<Subscription<E>>> players;
+
+        private Index(final Function<? super E, @Nullable Player> playerExtractor) {
+            this.playerExtractor = playerExtractor;
+            this.players = new ConcurrentHashMap<>();
+        }
+
+        private void add(final UUID player, final Subscription<E> subscription) {
+            players.computeIfAbsent(player, uuid -> new CopyOnWriteArraySet<>()).add(subscription);
+        }
+
+        private void remove(final UUID player, final Subscription<E> subscription) {
+            players.computeIfPresent(player, (uuid, set) -> {
+                set.remove(subscription);
+                return set.isEmpty() ? null : set;
+            });
+        }
+    }
+
+    /**
+     * A handler subscribed to a route for a set of players.
+     *
+     * @param <E> the event type
+     */
+    /* default */ static final class Subscription<E extends Event> {
+        /**
+         * The route this subscription belongs to.
+         */
+        private final Route<E> route;
+
+        /**
+         * The index of the route this subscription is added to.
+         */
+        private final Index<E> index;
+
+        /**
+         * The handler called for events of subscribed players.
+         */
+        private final BiConsumer<? super E, OnlineProfile> handler;
+
+        /**
+         * The subscribed players.
+         */
+        private final Set<UUID> players;
+
+        private Subscription(final Route<E> route, final Index<E> index, final BiConsumer<? super E, OnlineProfile> handler) {
+            this.route = route;
+            this.index = index;
+            this.handler = handler;
+            this.players = ConcurrentHashMap.newKeySet();
+        }
+
+        /**
+         * Starts calling the handler for events of a player.
+         *
+         * @param player the UUID of the player
+         */
+        /* default */ void add(final UUID player) {
+            if (players.add(player)) {
+                index.add(player, this);
+            }
+        }
+
+        /**
+         * Stops calling the handler for events of a player.
+         *
+         * @param player the UUID of the player
+         */
+        /* default */ void remove(final UUID player) {
+            if (players.remove(player)) {
+                index.remove(player, this);
+            }
+        }
+
+        /**
+         * Removes all players and unregisters the route if no other subscription uses it.
+         */
+        /* default */ void close() {
+            for (final UUID player : players) {
+                index.remove(player, this);
+            }
+            players.clear();
+            route.close();
+        }
+    }
+}
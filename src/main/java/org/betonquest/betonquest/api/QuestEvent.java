@@ -68,7 +68,7 @@ public abstract class QuestEvent extends ForceSyncHandler<Void> {
         for (int i = 0; i < length; i++) {
             final String condition = i >= tempConditions1.length ? tempConditions2[i - tempConditions1.length] : tempConditions1[i];
             try {
-                conditions[i] = new ConditionID(instruction.getPackage(), condition);
+                conditions[i] = ConditionID.of(instruction.getPackage(), condition);
             } catch (final QuestException exception) {
                 throw new QuestException("Error while parsing event conditions: " + exception.getMessage(), exception);
             }
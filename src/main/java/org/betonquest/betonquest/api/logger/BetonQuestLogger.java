@@ -5,6 +5,7 @@ import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.PluginLogger;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 /**
@@ -72,6 +73,53 @@ public interface BetonQuestLogger {
      */
     void debug(@Nullable QuestPackage pack, @Nullable String msg, Throwable thrown);
 
+    /**
+     * Logs a debug message with the {@link Level#FINE} level to the log.
+     * The message is only created if a debug message would be logged at all.
+     * <p>
+     * Use this for additional debug log information that is expensive to create.
+     * <p>
+     * Don't use this method, if you can provide a {@link QuestPackage}.
+     * Use {@link BetonQuestLogger#debug(QuestPackage, Supplier)} instead.
+     *
+     * @param msg The supplier of the message to log.
+     */
+    default void debug(final Supplier<String> msg) {
+        debug(null, msg);
+    }
+
+    /**
+     * Logs a debug message with the {@link Level#FINE} level to the log.
+     * The message is only created if a debug message would be logged at all.
+     * <p>
+     * Use this for additional debug log information that is expensive to create.
+     * In very frequently called code use {@link BetonQuestLogger#isDebugEnabled(QuestPackage)} instead,
+     * to also avoid creating the supplier.
+     *
+     * @param pack The related {@link QuestPackage} or null.
+     * @param msg  The supplier of the message to log.
+     */
+    default void debug(@Nullable final QuestPackage pack, final Supplier<String> msg) {
+        if (isDebugEnabled(pack)) {
+            debug(pack, msg.get());
+        }
+    }
+
+    /**
+     * Checks if debug messages of the given package would be logged at all,
+     * including being kept in the history of debug messages.
+     * <p>
+     * Use this to guard debug messages in very frequently called code,
+     * so nothing is created for them while debug messages are discarded.
+     * It may return true even if no debug message of the package is finally written anywhere.
+     *
+     * @param pack The related {@link QuestPackage} or null.
+     * @return false if debug messages of the package are discarded; true otherwise
+     */
+    default boolean isDebugEnabled(@Nullable final QuestPackage pack) {
+        return true;
+    }
+
     /**
      * Logs a normal message with the {@link Level#INFO} level to the log.
      * <p>
@@ -67,7 +67,7 @@ public abstract class Schedule {
         final List<EventID> events = new ArrayList<>();
         for (final String eventId : eventsString.split(",")) {
             try {
-                events.add(new EventID(scheduleID.getPackage(), eventId));
+                events.add(EventID.of(scheduleID.getPackage(), eventId));
             } catch (final QuestException e) {
                 throw new QuestException("Error while loading events: " + e.getMessage(), e);
             }
@@ -854,7 +854,7 @@ public class QuestCommand implements CommandExecutor, SimpleTabCompleter {
         }
         final EventID eventID;
         try {
-            eventID = new EventID(null, args[2]);
+            eventID = EventID.of(null, args[2]);
         } catch (final QuestException e) {
             sendMessage(sender, "error",
                     new PluginMessage.Replacement("error", e.getMessage()));
@@ -900,7 +900,7 @@ public class QuestCommand implements CommandExecutor, SimpleTabCompleter {
         }
         final ConditionID conditionID;
         try {
-            conditionID = new ConditionID(null, args[2]);
+            conditionID = ConditionID.of(null, args[2]);
         } catch (final QuestException e) {
             sendMessage(sender, "error",
                     new PluginMessage.Replacement("error", e.getMessage()));
@@ -1125,7 +1125,7 @@ public class QuestCommand implements CommandExecutor, SimpleTabCompleter {
         // get the objective
         final ObjectiveID objectiveID;
         try {
-            objectiveID = new ObjectiveID(null, args[3]);
+            objectiveID = ObjectiveID.of(null, args[3]);
         } catch (final QuestException e) {
             sendMessage(sender, "error",
                     new PluginMessage.Replacement("error", e.getMessage()));
@@ -1262,7 +1262,7 @@ public class QuestCommand implements CommandExecutor, SimpleTabCompleter {
                 // get ID and package
                 final ObjectiveID nameID;
                 try {
-                    nameID = new ObjectiveID(null, name);
+                    nameID = ObjectiveID.of(null, name);
                 } catch (final QuestException e) {
                     sendMessage(sender, "error",
                             new PluginMessage.Replacement("error", e.getMessage()));
@@ -1290,7 +1290,7 @@ public class QuestCommand implements CommandExecutor, SimpleTabCompleter {
                 // rename objective instance
                 final ObjectiveID renameID;
                 try {
-                    renameID = new ObjectiveID(null, rename);
+                    renameID = ObjectiveID.of(null, rename);
                 } catch (final QuestException e) {
                     sender.sendMessage("§4There was an unexpected error: " + e.getMessage());
                     log.reportException(e);
@@ -1387,7 +1387,7 @@ public class QuestCommand implements CommandExecutor, SimpleTabCompleter {
                 updateType = UpdateType.REMOVE_ALL_OBJECTIVES;
                 final ObjectiveID objectiveID;
                 try {
-                    objectiveID = new ObjectiveID(null, name);
+                    objectiveID = ObjectiveID.of(null, name);
                 } catch (final QuestException e) {
                     sendMessage(sender, "error",
                             new PluginMessage.Replacement("error", e.getMessage()));
@@ -1759,7 +1759,7 @@ public class QuestCommand implements CommandExecutor, SimpleTabCompleter {
         // get the objective
         final ObjectiveID objectiveID;
         try {
-            objectiveID = new ObjectiveID(null, args[2]);
+            objectiveID = ObjectiveID.of(null, args[2]);
         } catch (final QuestException e) {
             sendMessage(sender, "error",
                     new PluginMessage.Replacement("error", e.getMessage()));
@@ -128,6 +128,7 @@ public class CitizensHologramLoop extends HologramLoop implements Listener {
                             return;
                         }
                         hologram.disable();
+                        resetVisibility(hologram);
                     } else {
                         final Location location = npc.getStoredLocation().add(npcHologram.vector());
                         if (hologram == null) {
@@ -138,6 +139,7 @@ public class CitizensHologramLoop extends HologramLoop implements Listener {
                         } else {
                             if (hologram.isDisabled()) {
                                 hologram.enable();
+                                resetVisibility(hologram);
                             }
                             hologram.move(location);
                         }
@@ -155,6 +157,12 @@ public class CitizensHologramLoop extends HologramLoop implements Listener {
                 });
     }
 
+    private void resetVisibility(final BetonHologram hologram) {
+        holograms.stream()
+                .filter(hologramWrapper -> hologramWrapper.holograms().contains(hologram))
+                .forEach(hologramWrapper -> hologramWrapper.resetVisibility(hologram));
+    }
+
     /**
      * Update the hologram when the plugin reloads.
      *
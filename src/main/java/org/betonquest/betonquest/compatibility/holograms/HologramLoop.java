@@ -136,7 +136,8 @@ public abstract class HologramLoop {
                 conditions,
                 cleanedLines,
                 pack,
-                maxRange);
+                maxRange,
+                new HologramVisibility());
         HologramRunner.addHologram(hologramWrapper);
         return hologramWrapper;
     }
@@ -158,7 +159,7 @@ public abstract class HologramLoop {
             conditions = new ConditionID[parts.length];
             for (int i = 0; i < conditions.length; i++) {
                 try {
-                    conditions[i] = new ConditionID(pack, parts[i]);
+                    conditions[i] = ConditionID.of(pack, parts[i]);
                 } catch (final QuestException e) {
                     throw new QuestException("Error while loading condition '" + parts[i] + "': " + e.getMessage(), e);
                 }
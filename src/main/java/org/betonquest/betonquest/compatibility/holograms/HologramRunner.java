@@ -2,6 +2,7 @@ package org.betonquest.betonquest.compatibility.holograms;
 
 import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.profile.OnlineProfile;
+import org.betonquest.betonquest.util.PlayerConverter;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
 
@@ -38,9 +39,10 @@ public final class HologramRunner {
         final BukkitRunnable runnable = new BukkitRunnable() {
             @Override
             public void run() {
+                final PlayerChunkIndex index = PlayerChunkIndex.create(PlayerConverter.getOnlineProfiles());
                 for (final HologramWrapper h : holograms) {
                     h.updateContent();
-                    h.updateVisibility();
+                    h.updateVisibility(index);
                 }
             }
         };
@@ -58,7 +60,10 @@ public final class HologramRunner {
                         k -> new HologramRunner(hologram.interval()))
                 .addRunnerHologram(hologram);
         hologram.initialiseContent();
-        hologram.holograms().forEach(BetonHologram::showAll);
+        for (final BetonHologram betonHologram : hologram.holograms()) {
+            betonHologram.showAll();
+            hologram.resetVisibility(betonHologram);
+        }
         hologram.updateVisibility();
     }
 
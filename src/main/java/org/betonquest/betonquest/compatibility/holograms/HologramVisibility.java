@@ -0,0 +1,96 @@
+package org.betonquest.betonquest.compatibility.holograms;
+
+import org.bukkit.entity.Player;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The visibility of {@link BetonHologram}s last sent to each player.
+ * Show and hide calls are only sent to a player if they change what the player sees.
+ */
+public final class HologramVisibility {
+    /**
+     * The last sent visibility by hologram and player.
+     */
+    private final Map<BetonHologram, Map<UUID, Boolean>> sent;
+
+    /**
+     * Creates the visibility without knowing what any player sees.
+     */
+    public HologramVisibility() {
+        sent = new HashMap<>();
+    }
+
+    /**
+     * Shows or hides a hologram for a player, unless the player already got the same visibility.
+     *
+     * @param hologram the hologram
+     * @param player   the player
+     * @param visible  whether the hologram should be visible to the player
+     */
+    /* default */ void apply(final BetonHologram hologram, final Player player, final boolean visible) {
+        final Boolean previous = sent.computeIfAbsent(hologram, key -> new HashMap<>()).put(player.getUniqueId(), visible);
+        if (previous != null && previous == visible) {
+            return;
+        }
+        if (visible) {
+            hologram.show(player);
+        } else {
+            hologram.hide(player);
+        }
+    }
+
+    /**
+     * Forgets what a player sees, so the next visibility is sent in any case.
+     *
+     * @param playerID the UUID of the player
+     */
+    /* default */ void forget(final UUID playerID) {
+        for (final Map<UUID, Boolean> players : sent.values()) {
+            players.remove(playerID);
+        }
+    }
+
+    /**
+     * Forgets what all players see of a hologram, after it was shown or hidden for everyone.
+     *
+     * @param hologram the hologram
+     */
+    /* default */ void forget(final BetonHologram hologram) {
+        sent.remove(hologram);
+    }
+
+    /**
+     * Forgets what players see of a hologram, except for the given players.
+     *
+     * @param hologram the hologram
+     * @param checked  the UUIDs of the players whose visibility is kept
+     */
+    /* default */ void retain(final BetonHologram hologram, final Set<UUID> checked) {
+        final Map<UUID, Boolean> players = sent.get(hologram);
+        if (players != null) {
+            players.keySet().retainAll(checked);
+        }
+    }
+
+    /**
+     * Forgets what players see that are not online anymore.
+     *
+     * @param online the UUIDs of the online players
+     */
+    /* default */ void retain(final Set<UUID> online) {
+        for (final Map<UUID, Boolean> players : sent.values()) {
+            players.keySet().retainAll(online);
+        }
+    }
+
+    /**
+     * Forgets what all players see, after the holograms were shown or hidden for everyone.
+     */
+    /* default */ void clear() {
+        sent.clear();
+    }
+}
@@ -7,9 +7,15 @@ import org.betonquest.betonquest.compatibility.holograms.lines.AbstractLine;
 import org.betonquest.betonquest.id.ConditionID;
 import org.betonquest.betonquest.instruction.variable.VariableNumber;
 import org.betonquest.betonquest.util.PlayerConverter;
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * Wrapper class for {@link BetonHologram} that stores data parsed from hologram configuration.
@@ -32,47 +38,113 @@ import java.util.List;
  * @param questPackage  {@link QuestPackage} in which the hologram is specified in.
  * @param varMaxRange   The maximum range in which the hologram is visible.
  *                      {@link VariableNumber} represents this range.
+ * @param visibility    The visibility of the holograms last sent to each player.
  */
 public record HologramWrapper(int interval, List<BetonHologram> holograms, boolean staticContent,
                               ConditionID[] conditionList,
                               List<AbstractLine> cleanedLines, QuestPackage questPackage,
-                              VariableNumber varMaxRange) {
+                              VariableNumber varMaxRange, HologramVisibility visibility) {
+    /**
+     * The minimal amount of blocks added to the view distance when looking for players near a hologram without a
+     * maximum range, so players approaching the view distance are updated before they see the hologram.
+     */
+    private static final int VIEW_DISTANCE_MARGIN = 16;
+
+    /**
+     * The amount of blocks a fast player, like a flying one, moves per tick.
+     * Faster players may see an outdated visibility until the next update.
+     */
+    private static final double BLOCKS_PER_TICK = 1;
+
     /**
      * Checks whether all conditions are met by a players and displays or hides the hologram.
      */
     public void updateVisibility() {
+        updateVisibility(PlayerChunkIndex.create(PlayerConverter.getOnlineProfiles()));
+    }
+
+    /**
+     * Checks whether all conditions are met by the players near the holograms and displays or hides them.
+     * Only players within the maximum range, or within the view distance if there is none, are checked.
+     * Players beyond the maximum range are hidden, players beyond the view distance keep their visibility,
+     * but it is checked again once they come closer. The view distance is extended by the blocks a fast player moves
+     * within the interval.
+     *
+     * @param index the online players indexed by their location
+     */
+    /* default */ void updateVisibility(final PlayerChunkIndex index) {
         final int maxRange = varMaxRange.getInt(null);
         if (conditionList.length == 0 && maxRange <= 0) {
             for (final BetonHologram hologram : holograms) {
                 hologram.showAll();
             }
+            visibility.clear();
             return;
         }
 
-        for (final OnlineProfile onlineProfile : PlayerConverter.getOnlineProfiles()) {
-            updateVisibilityForPlayer(onlineProfile);
+        visibility.retain(index.getPlayerIDs());
+        if (!varMaxRange.isConstant()) {
+            for (final PlayerChunkIndex.Entry entry : index.getAll()) {
+                applyVisibility(entry.profile());
+            }
+            return;
         }
+        final double range = maxRange > 0 ? maxRange : Bukkit.getViewDistance() * 16
+                + Math.max(VIEW_DISTANCE_MARGIN, interval * BLOCKS_PER_TICK);
+        final Map<OnlineProfile, Boolean> conditionResults = new HashMap<>();
+        for (final BetonHologram hologram : holograms) {
+            final Set<UUID> near = new HashSet<>();
+            for (final PlayerChunkIndex.Entry entry : index.getNear(hologram.getLocation(), range)) {
+                final OnlineProfile profile = entry.profile();
+                near.add(profile.getPlayerUUID());
+                visibility.apply(hologram, profile.getPlayer(), conditionResults.computeIfAbsent(profile, this::conditionsMet));
+            }
+            if (maxRange > 0) {
+                for (final PlayerChunkIndex.Entry entry : index.getAll()) {
+                    if (!near.contains(entry.profile().getPlayerUUID())) {
+                        visibility.apply(hologram, entry.profile().getPlayer(), false);
+                    }
+                }
+            } else {
+                visibility.retain(hologram, near);
+            }
+        }
+    }
+
+    /**
+     * Forgets what the players see of a hologram after it was shown or hidden for everyone,
+     * so its visibility is sent again on the next update.
+     *
+     * @param hologram the hologram that was shown or hidden for everyone
+     */
+    public void resetVisibility(final BetonHologram hologram) {
+        visibility.forget(hologram);
     }
 
     /**
      * Update the visibility for a particular player.
+     * The visibility is sent to the player even if it did not change.
      *
      * @param profile The online player's profile
      */
     public void updateVisibilityForPlayer(final OnlineProfile profile) {
-        final boolean conditionsMet = BetonQuest.getInstance().getQuestTypeAPI().conditions(profile, conditionList);
+        visibility.forget(profile.getPlayerUUID());
+        applyVisibility(profile);
+    }
+
+    private void applyVisibility(final OnlineProfile profile) {
+        final boolean conditionsMet = conditionsMet(profile);
 
         for (final BetonHologram hologram : holograms) {
             final boolean playerOutOfRange = isPlayerOutOfRange(profile, hologram);
-
-            if (conditionsMet && !playerOutOfRange) {
-                hologram.show(profile.getPlayer());
-            } else {
-                hologram.hide(profile.getPlayer());
-            }
+            visibility.apply(hologram, profile.getPlayer(), conditionsMet && !playerOutOfRange);
         }
     }
 
+    private boolean conditionsMet(final OnlineProfile profile) {
+        return BetonQuest.getInstance().getQuestTypeAPI().conditions(profile, conditionList);
+    }
+
     /**
      * Checks if the player is out of range from the specified hologram.
      *
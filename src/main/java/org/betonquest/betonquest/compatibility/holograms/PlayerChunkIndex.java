@@ -0,0 +1,152 @@
+package org.betonquest.betonquest.compatibility.holograms;
+
+import org.betonquest.betonquest.api.profile.OnlineProfile;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The online players of one moment, indexed by their world and chunk, to find the players near a hologram
+ * without checking the distance of every player.
+ */
+/* default */ final class PlayerChunkIndex {
+    /**
+     * The amount of blocks a chunk is wide.
+     */
+    private static final int CHUNK_SIZE = 16;
+
+    /**
+     * All indexed players.
+     */
+    private final List<Entry> entries;
+
+    /**
+     * The UUIDs of all indexed players.
+     */
+    private final Set<UUID> playerIDs;
+
+    /**
+     * The indexed players by their world.
+     */
+    private final Map<World, List<Entry>> worlds;
+
+    /**
+     * The indexed players by their world and chunk.
+     */
+    private final Map<World, Map<Long, List<Entry>>> chunks;
+
+    private PlayerChunkIndex() {
+        entries = new ArrayList<>();
+        playerIDs = new HashSet<>();
+        worlds = new HashMap<>();
+        chunks = new HashMap<>();
+    }
+
+    /**
+     * Indexes the current locations of players.
+     *
+     * @param profiles the profiles of the players to index
+     * @return the index
+     */
+    /* default */ static PlayerChunkIndex create(final Collection<OnlineProfile> profiles) {
+        final PlayerChunkIndex index = new PlayerChunkIndex();
+        for (final OnlineProfile profile : profiles) {
+            final Location location = profile.getPlayer().getLocation();
+            final Entry entry = new Entry(profile, location);
+            index.entries.add(entry);
+            index.playerIDs.add(profile.getPlayerUUID());
+            final World world = location.getWorld();
+            if (world == null) {
+                continue;
+            }
+            index.worlds.computeIfAbsent(world, key -> new ArrayList<>()).add(entry);
+            index.chunks.computeIfAbsent(world, key -> new HashMap<>())
+                    .computeIfAbsent(chunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4), key -> new ArrayList<>())
+                    .add(entry);
+        }
+        return index;
+    }
+
+    private static long chunkKey(final int chunkX, final int chunkZ) {
+        return (long) chunkX << 32 | chunkZ & 0xFFFF_FFFFL;
+    }
+
+    /**
+     * Gets all indexed players.
+     *
+     * @return the indexed players
+     */
+    /* default */ List<Entry> getAll() {
+        return entries;
+    }
+
+    /**
+     * Gets the UUIDs of all indexed players.
+     *
+     * @return the UUIDs of the indexed players
+     */
+    /* default */ Set<UUID> getPlayerIDs() {
+        return playerIDs;
+    }
+
+    /**
+     * Gets the players within a range around a location.
+     * Only the chunks the range overlaps are checked, unless the world has fewer players than chunks to check.
+     *
+     * @param center the center of the range
+     * @param range  the range in blocks
+     * @return the players in the same world and within the range
+     */
+    /* default */ List<Entry> getNear(final Location center, final double range) {
+        final World world = center.getWorld();
+        final List<Entry> inWorld = world == null ? null : worlds.get(world);
+        if (inWorld == null) {
+            return List.of();
+        }
+        final double rangeSquared = range * range;
+        final List<Entry> near = new ArrayList<>();
+        final int chunkRadius = (int) Math.ceil(range / CHUNK_SIZE);
+        final long diameter = 2L * chunkRadius + 1;
+        if (diameter * diameter >= inWorld.size()) {
+            addNear(near, inWorld, center, rangeSquared);
+            return near;
+        }
+        final Map<Long, List<Entry>> worldChunks = chunks.get(world);
+        final int centerX = center.getBlockX() >> 4;
+        final int centerZ = center.getBlockZ() >> 4;
+        for (int chunkX = centerX - chunkRadius; chunkX <= centerX + chunkRadius; chunkX++) {
+            for (int chunkZ = centerZ - chunkRadius; chunkZ <= centerZ + chunkRadius; chunkZ++) {
+                final List<Entry> inChunk = worldChunks.get(chunkKey(chunkX, chunkZ));
+                if (inChunk != null) {
+                    addNear(near, inChunk, center, rangeSquared);
+                }
+            }
+        }
+        return near;
+    }
+
+    private static void addNear(final List<Entry> near, final List<Entry> candidates, final Location center, final double rangeSquared) {
+        for (final Entry entry : candidates) {
+            if (entry.location().distanceSquared(center) <= rangeSquared) {
+                near.add(entry);
+            }
+        }
+    }
+
+    /**
+     * An indexed player.
+     *
+     * @param profile  the online profile of the player
+     * @param location the location of the player when it was indexed
+     */
+    /* default */ record Entry(OnlineProfile profile, Location location) {
+    }
+}
@@ -1,15 +1,11 @@
 package org.betonquest.betonquest.compatibility.holograms.lines;
 
+import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
-import org.betonquest.betonquest.database.Connector;
-import org.betonquest.betonquest.database.QueryType;
-import org.bukkit.Bukkit;
+import org.betonquest.betonquest.database.PointLeaderboards;
 
-import java.sql.ResultSet;
-import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 /**
  * Holds data of a ranking.
@@ -36,7 +32,7 @@ public class TopXObject {
     private final OrderType orderType;
 
     /**
-     * Entries of last database request. Will not exceed {@link #limit}.
+     * Entries of the last request. Will not exceed {@link #limit}.
      */
     private final List<TopXLine> entries = new ArrayList<>();
 
@@ -60,27 +56,25 @@ public class TopXObject {
     }
 
     /**
-     * Updates the currently stored entries with data from the database.
+     * Updates the currently stored entries with data from the in-memory {@link PointLeaderboards}.
+     * The leaderboard of the category is loaded from the database in the background when it is first requested,
+     * so no entries are available until that is finished.
      */
     public void queryDB() {
         entries.clear();
-        final Connector con = new Connector();
-
-        try (ResultSet resultSet = con.querySQL(orderType.getType(), statement -> {
-            statement.setString(1, category);
-            statement.setInt(2, limit);
-        })) {
-            while (resultSet.next()) {
-                final String playerName = Bukkit.getOfflinePlayer(UUID.fromString(resultSet.getString("playerID"))).getName();
-                entries.add(new TopXLine(playerName, resultSet.getLong("count")));
-            }
-        } catch (final SQLException e) {
-            log.error("There was an SQL exception while querying the top " + limit, e);
+        final List<PointLeaderboards.Score> scores = BetonQuest.getInstance().getPointLeaderboards()
+                .getTop(category, orderType == OrderType.DESCENDING, limit);
+        if (scores.isEmpty()) {
+            log.debug("There are no scores of the point category '" + category + "' loaded yet");
+            return;
+        }
+        for (final PointLeaderboards.Score score : scores) {
+            entries.add(new TopXLine(score.playerName(), score.count()));
         }
     }
 
     /**
-     * Returns the number of lines actually retrieved from the database. May differ from {@link #limit} when not enough
+     * Returns the number of lines actually retrieved from the leaderboard. May differ from {@link #limit} when not enough
      * players have had alterations to that point made. Can be 0 under the following circumstances:
      * <ul>
      *     <li>{@link #queryDB()} has not been called on this object</li>
@@ -101,24 +95,11 @@ public class TopXObject {
         /**
          * From largest to smallest. Default.
          */
-        DESCENDING(QueryType.LOAD_TOP_X_POINTS_DESC),
+        DESCENDING,
 
         /**
          * From smallest to largest.
          */
-        ASCENDING(QueryType.LOAD_TOP_X_POINTS_ASC);
-
-        /**
-         * The {@link QueryType} for descending or ascending order.
-         */
-        private final QueryType type;
-
-        OrderType(final QueryType type) {
-            this.type = type;
-        }
-
-        public QueryType getType() {
-            return type;
-        }
+        ASCENDING
     }
 }
@@ -58,7 +58,7 @@ public class ConditionRequirement extends BukkitCustomRequirement {
                 return false;
             }
             final OnlineProfile onlineProfile = PlayerConverter.getID(player);
-            final ConditionID condition = new ConditionID(null, string);
+            final ConditionID condition = ConditionID.of(null, string);
             return questTypeAPI.condition(onlineProfile, condition);
         } catch (final QuestException e) {
             log.warn("Error while checking quest requirement - BetonQuest condition '" + string + "' not found: " + e.getMessage(), e);
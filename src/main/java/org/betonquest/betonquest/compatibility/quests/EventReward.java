@@ -58,7 +58,7 @@ public class EventReward extends BukkitCustomReward {
                 return;
             }
             final OnlineProfile onlineProfile = PlayerConverter.getID(player);
-            final EventID event = new EventID(null, string);
+            final EventID event = EventID.of(null, string);
             questTypeAPI.event(onlineProfile, event);
         } catch (final QuestException e) {
             log.warn("Error while running quest reward - BetonQuest event '" + string + "' not found: " + e.getMessage(), e);
@@ -10,15 +10,12 @@ import org.betonquest.betonquest.instruction.argument.VariableArgument;
 import org.betonquest.betonquest.instruction.variable.VariableNumber;
 import org.betonquest.betonquest.instruction.variable.location.VariableLocation;
 import org.betonquest.betonquest.objective.AbstractLocationObjective;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
 
 /**
  * This {@link AbstractLocationObjective} is completed when a player is inside a certain location while riding a train.
  */
-public class TrainCartsLocationObjective extends AbstractLocationObjective implements Listener {
+public class TrainCartsLocationObjective extends AbstractLocationObjective {
     /**
      * The {@link VariableLocation} that stores the location the player has to be inside.
      */
@@ -41,16 +38,6 @@ public class TrainCartsLocationObjective extends AbstractLocationObjective imple
         this.range = instruction.get(instruction.getOptional("range", "1"), VariableArgument.NUMBER_NOT_LESS_THAN_ONE);
     }
 
-    @Override
-    public void start() {
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
-    }
-
-    @Override
-    public void stop() {
-        HandlerList.unregisterAll(this);
-    }
-
     @Override
     public String getDefaultDataInstruction() {
         return "";
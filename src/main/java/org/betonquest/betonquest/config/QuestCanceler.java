@@ -102,9 +102,9 @@ public class QuestCanceler {
         final String itemString = section.getString("item");
         item = itemString == null ? pack.getRawString("items.cancel_button") : itemString;
         // parse it to get the data
-        events = parseID(section, "events", EventID::new);
-        conditions = parseID(section, "conditions", ConditionID::new);
-        objectives = parseID(section, "objectives", ObjectiveID::new);
+        events = parseID(section, "events", EventID::of);
+        conditions = parseID(section, "conditions", ConditionID::of);
+        objectives = parseID(section, "objectives", ObjectiveID::of);
         tags = split(section, "tags");
         points = split(section, "points");
         journal = split(section, "journal");
@@ -19,9 +19,13 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Class to load all {@link QuestTemplate}s and {@link QuestPackage}s from the root directory and apply all templates.
+ * <p>
+ * The files of all templates and packages are parsed in parallel.
  */
 @SuppressWarnings("PMD.DataClass")
 public class QuestManager {
@@ -79,14 +83,24 @@ public class QuestManager {
             return;
         }
 
-        final Map<String, QuestTemplate> templates = new HashMap<>();
+        final long start = System.nanoTime();
+        final Map<String, QuestTemplate> templates = new ConcurrentHashMap<>();
+        final Map<String, QuestPackage> loadedPackages = new ConcurrentHashMap<>();
+        // The logger factory is not thread safe, so the loggers are created before the quests are created in parallel
+        final BetonQuestLogger templateLog = loggerFactory.create(QuestTemplate.class);
+        final BetonQuestLogger packageLog = loggerFactory.create(QuestPackageImpl.class);
         try {
-            searchForPackages(templatesDir, templatesDir, FILE_NAME_INDICATOR, FILE_TYPE_INDICATOR, (questPath, questFile, files) -> {
-                final QuestTemplate quest = new QuestTemplate(loggerFactory.create(QuestTemplate.class), configAccessorFactory, questPath, questFile, files);
+            final List<QuestSource> templateSources = new ArrayList<>();
+            searchForPackages(templatesDir, templatesDir, FILE_NAME_INDICATOR, FILE_TYPE_INDICATOR, templateSources);
+            createAll(templateSources, (questPath, questFile, files) -> {
+                final QuestTemplate quest = new QuestTemplate(templateLog, configAccessorFactory, questPath, questFile, files);
                 templates.put(quest.getQuestPath(), quest);
             });
-            searchForPackages(packagesDir, packagesDir, FILE_NAME_INDICATOR, FILE_TYPE_INDICATOR, (questPath, questFile, files) -> {
-                final QuestPackageImpl quest = new QuestPackageImpl(loggerFactory.create(QuestPackageImpl.class), configAccessorFactory, questPath, questFile, files);
+            applyTemplatesOfTemplates(templates);
+            final List<QuestSource> packageSources = new ArrayList<>();
+            searchForPackages(packagesDir, packagesDir, FILE_NAME_INDICATOR, FILE_TYPE_INDICATOR, packageSources);
+            createAll(packageSources, (questPath, questFile, files) -> {
+                final QuestPackageImpl quest = new QuestPackageImpl(packageLog, configAccessorFactory, questPath, questFile, files);
                 try {
                     quest.applyQuestTemplates(templates);
                 } catch (final InvalidConfigurationException e) {
@@ -94,12 +108,15 @@ public class QuestManager {
                     return;
                 }
                 if (quest.getConfig().getBoolean("package.enabled", true)) {
-                    packages.put(quest.getQuestPath(), quest);
+                    loadedPackages.put(quest.getQuestPath(), quest);
                 }
             });
         } catch (final IOException e) {
             log.error("Error while loading '" + packagesDir.getPath() + "'!", e);
         }
+        packages.putAll(loadedPackages);
+        log.debug("Parsed " + templates.size() + " templates and " + packages.size() + " packages in "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
     }
 
     /**
@@ -117,25 +134,25 @@ public class QuestManager {
         return true;
     }
 
-    private List<File> searchForPackages(final File root, final File file, final String fileNameIndicator, final String fileTypeIndicator, final QuestCreator creator) throws IOException {
+    private List<File> searchForPackages(final File root, final File file, final String fileNameIndicator, final String fileTypeIndicator, final List<QuestSource> sources) throws IOException {
         final File[] fileArray = checkAndGetFiles(file);
         final List<File> files = new ArrayList<>();
-        final File questFile = searchQuestFile(root, fileNameIndicator, fileTypeIndicator, creator, fileArray, files);
+        final File questFile = searchQuestFile(root, fileNameIndicator, fileTypeIndicator, sources, fileArray, files);
         if (questFile != null) {
             files.add(questFile);
-            createPackage(root, questFile.getParentFile(), files, creator);
+            addSource(root, questFile.getParentFile(), files, sources);
             files.clear();
         }
         return files;
     }
 
     @Nullable
-    private File searchQuestFile(final File root, final String fileNameIndicator, final String fileTypeIndicator, final QuestCreator creator, final File[] fileArray, final List<File> files) {
+    private File searchQuestFile(final File root, final String fileNameIndicator, final String fileTypeIndicator, final List<QuestSource> sources, final File[] fileArray, final List<File> files) {
         File questFile = null;
         for (final File subFile : fileArray) {
             if (subFile.isDirectory()) {
                 try {
-                    files.addAll(searchForPackages(root, subFile, fileNameIndicator, fileTypeIndicator, creator));
+                    files.addAll(searchForPackages(root, subFile, fileNameIndicator, fileTypeIndicator, sources));
                 } catch (final IOException e) {
                     log.warn(e.getMessage(), e);
                 }
@@ -164,16 +181,49 @@ public class QuestManager {
         return files;
     }
 
-    private void createPackage(final File root, final File relativeRoot, final List<File> files, final QuestCreator creator) {
+    private void addSource(final File root, final File relativeRoot, final List<File> files, final List<QuestSource> sources) {
         final String questPath = root.toURI().relativize(relativeRoot.toURI())
                 .toString().replace('/', ' ').trim().replaceAll(" ", PACKAGE_SEPARATOR);
-        try {
-            creator.create(questPath, relativeRoot, files);
-        } catch (final InvalidConfigurationException | FileNotFoundException e) {
-            log.warn(root.getParentFile().getName() + " '" + questPath + "' could not be loaded, reason: " + e.getMessage(), e);
+        sources.add(new QuestSource(root, questPath, relativeRoot, List.copyOf(files)));
+    }
+
+    private void createAll(final List<QuestSource> sources, final QuestCreator creator) {
+        sources.parallelStream().forEach(source -> {
+            try {
+                creator.create(source.questPath(), source.relativeRoot(), source.files());
+            } catch (final InvalidConfigurationException | FileNotFoundException e) {
+                log.warn(source.root().getParentFile().getName() + " '" + source.questPath() + "' could not be loaded, reason: " + e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Applies the templates of all templates up front, so packages only read them while they are created in parallel.
+     * Errors are ignored here, they are reported for the packages using the template.
+     *
+     * @param templates all loaded templates
+     */
+    private void applyTemplatesOfTemplates(final Map<String, QuestTemplate> templates) {
+        for (final QuestTemplate template : templates.values()) {
+            try {
+                template.applyQuestTemplates(templates);
+            } catch (final InvalidConfigurationException e) {
+                log.debug("Template '" + template.getQuestPath() + "' could not be applied: " + e.getMessage());
+            }
         }
     }
 
+    /**
+     * The files of a {@link Quest} found in the root directory.
+     *
+     * @param root         the root directory of the quests
+     * @param questPath    the path to the {@link Quest}
+     * @param relativeRoot the root file of the {@link Quest}
+     * @param files        all files of the {@link Quest}
+     */
+    private record QuestSource(File root, String questPath, File relativeRoot, List<File> files) {
+    }
+
     /**
      * Simple interface to create and register a {@link Quest}.
      */
@@ -252,7 +252,7 @@ public class ConversationData {
             final String[] array = rawFinalEvents.split(",");
             for (final String identifier : array) {
                 try {
-                    finalEvents.add(new EventID(pack, identifier));
+                    finalEvents.add(EventID.of(pack, identifier));
                 } catch (final QuestException e) {
                     throw new QuestException("Error while loading final events: " + e.getMessage(), e);
                 }
@@ -690,7 +690,7 @@ public class ConversationData {
             try {
                 for (final String rawEvent : GlobalVariableResolver.resolve(pack, conv.getString("events", conv.getString("event", ""))).split(",")) {
                     if (!Objects.equals(rawEvent, "")) {
-                        events.add(new EventID(pack, rawEvent.trim()));
+                        events.add(EventID.of(pack, rawEvent.trim()));
                     }
                 }
             } catch (final QuestException e) {
@@ -703,7 +703,7 @@ public class ConversationData {
             try {
                 for (final String rawCondition : GlobalVariableResolver.resolve(pack, conv.getString("conditions", conv.getString("condition", ""))).split(",")) {
                     if (!rawCondition.isEmpty()) {
-                        conditions.add(new ConditionID(pack, rawCondition.trim()));
+                        conditions.add(ConditionID.of(pack, rawCondition.trim()));
                     }
                 }
             } catch (final QuestException e) {
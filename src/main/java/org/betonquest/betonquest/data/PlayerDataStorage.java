@@ -83,7 +83,7 @@ public class PlayerDataStorage {
      */
     public void reloadProfiles(final Collection<OnlineProfile> onlineProfiles) {
         for (final OnlineProfile onlineProfile : onlineProfiles) {
-            log.debug("Updating global objectives and journal for player " + onlineProfile);
+            log.debug(() -> "Updating global objectives and journal for player " + onlineProfile);
             final PlayerData playerData = get(onlineProfile);
             GlobalObjectives.startAll(onlineProfile, this);
             playerData.getJournal().update();
@@ -98,7 +98,7 @@ public class PlayerDataStorage {
      * @param playerData PlayerData object to store
      */
     public void put(final Profile profile, final PlayerData playerData) {
-        log.debug("Inserting data for " + profile);
+        log.debug(() -> "Inserting data for " + profile);
         playerDataMap.put(profile, playerData);
     }
 
@@ -7,8 +7,12 @@ import org.betonquest.betonquest.config.Config;
 import org.bukkit.Bukkit;
 import org.bukkit.event.Listener;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Saves the data to the database asynchronously.
@@ -37,6 +41,21 @@ public class AsyncSaver extends Thread implements Listener, Saver {
      */
     private final long reconnectInterval;
 
+    /**
+     * The maximum amount of records written in one transaction, or 1 if batching is disabled.
+     */
+    private final int batchSize;
+
+    /**
+     * The amount of records currently waiting in the queue.
+     */
+    private final AtomicInteger queueDepth;
+
+    /**
+     * The duration of the last flush to the database in nanoseconds.
+     */
+    private volatile long lastFlushNanos;
+
     /**
      * Whether the saver is currently running or not.
      */
@@ -53,7 +72,10 @@ public class AsyncSaver extends Thread implements Listener, Saver {
         this.con = new Connector();
         this.queue = new ConcurrentLinkedQueue<>();
         this.running = true;
+        this.queueDepth = new AtomicInteger();
         this.reconnectInterval = Long.parseLong(Config.getConfigString("mysql.reconnect_interval"));
+        final boolean batching = BetonQuest.getInstance().getPluginConfig().getBoolean("mysql.batch.enabled", true);
+        this.batchSize = batching ? Math.max(1, BetonQuest.getInstance().getPluginConfig().getInt("mysql.batch.size", 250)) : 1;
         Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
     }
 
@@ -87,15 +109,68 @@ public class AsyncSaver extends Thread implements Listener, Saver {
                 }
                 active = true;
             }
+            flush();
+        }
+    }
+
+    private void flush() {
+        final long start = System.nanoTime();
+        final int written;
+        if (batchSize == 1) {
             final Record rec = queue.poll();
+            queueDepth.decrementAndGet();
             con.updateSQL(rec.type(), rec.args());
+            written = 1;
+        } else {
+            final List<Record> records = new ArrayList<>(Math.min(batchSize, queueDepth.get()));
+            Record rec;
+            while (records.size() < batchSize && (rec = queue.poll()) != null) {
+                records.add(rec);
+            }
+            queueDepth.addAndGet(-records.size());
+            con.updateSQL(records);
+            written = records.size();
+        }
+        lastFlushNanos = System.nanoTime() - start;
+        if (written > 1) {
+            log.debug("Saved " + written + " records in " + TimeUnit.NANOSECONDS.toMillis(lastFlushNanos)
+                    + "ms, " + queueDepth.get() + " records remaining, statement cache hit rate "
+                    + Math.round(con.getStatementCacheHitRate() * 100) + "%");
         }
     }
 
+    /**
+     * Gets the amount of records waiting to be saved.
+     *
+     * @return the current queue depth
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Gets the share of writes that could reuse an already prepared statement.
+     *
+     * @return the statement cache hit rate between 0 and 1
+     */
+    public double getStatementCacheHitRate() {
+        return con.getStatementCacheHitRate();
+    }
+
+    /**
+     * Gets the time the last write to the database took.
+     *
+     * @return the duration of the last flush in milliseconds
+     */
+    public long getLastFlushLatency() {
+        return TimeUnit.NANOSECONDS.toMillis(lastFlushNanos);
+    }
+
     @Override
     public void add(final Record rec) {
         synchronized (this) {
             queue.add(rec);
+            queueDepth.incrementAndGet();
             notifyAll();
         }
     }
@@ -164,106 +164,110 @@ public final class Backup {
         database.createTables();
         // drop all tables
         final Connector con = new Connector();
-        con.updateSQL(UpdateType.DROP_OBJECTIVES);
-        con.updateSQL(UpdateType.DROP_TAGS);
-        con.updateSQL(UpdateType.DROP_POINTS);
-        con.updateSQL(UpdateType.DROP_JOURNALS);
-        con.updateSQL(UpdateType.DROP_BACKPACK);
-        con.updateSQL(UpdateType.DROP_GLOBAL_POINTS);
-        con.updateSQL(UpdateType.DROP_GLOBAL_TAGS);
-        con.updateSQL(UpdateType.DROP_MIRGATION);
-        con.updateSQL(UpdateType.DROP_PLAYER_PROFILE);
-        con.updateSQL(UpdateType.DROP_PLAYER);
-        con.updateSQL(UpdateType.DROP_PROFILE);
-        // create new tables
-        database.createTables();
+        try {
+            con.updateSQL(UpdateType.DROP_OBJECTIVES);
+            con.updateSQL(UpdateType.DROP_TAGS);
+            con.updateSQL(UpdateType.DROP_POINTS);
+            con.updateSQL(UpdateType.DROP_JOURNALS);
+            con.updateSQL(UpdateType.DROP_BACKPACK);
+            con.updateSQL(UpdateType.DROP_GLOBAL_POINTS);
+            con.updateSQL(UpdateType.DROP_GLOBAL_TAGS);
+            con.updateSQL(UpdateType.DROP_MIRGATION);
+            con.updateSQL(UpdateType.DROP_PLAYER_PROFILE);
+            con.updateSQL(UpdateType.DROP_PLAYER);
+            con.updateSQL(UpdateType.DROP_PROFILE);
+            // create new tables
+            database.createTables();
 
-        final ConfigurationSection profile = config.getConfigurationSection("profile");
-        if (profile != null) {
-            for (final String key : profile.getKeys(false)) {
-                con.updateSQL(UpdateType.INSERT_PROFILE,
-                        profile.getString(key + ".profileID"));
+            final ConfigurationSection profile = config.getConfigurationSection("profile");
+            if (profile != null) {
+                for (final String key : profile.getKeys(false)) {
+                    con.updateSQL(UpdateType.INSERT_PROFILE,
+                            profile.getString(key + ".profileID"));
+                }
             }
-        }
-        final ConfigurationSection player = config.getConfigurationSection("player");
-        if (player != null) {
-            for (final String key : player.getKeys(false)) {
-                con.updateSQL(UpdateType.INSERT_PLAYER,
-                        player.getString(key + ".playerID"),
-                        player.getString(key + ".active_profile"),
-                        player.getString(key + ".language"),
-                        player.getString(key + ".conversation"));
+            final ConfigurationSection player = config.getConfigurationSection("player");
+            if (player != null) {
+                for (final String key : player.getKeys(false)) {
+                    con.updateSQL(UpdateType.INSERT_PLAYER,
+                            player.getString(key + ".playerID"),
+                            player.getString(key + ".active_profile"),
+                            player.getString(key + ".language"),
+                            player.getString(key + ".conversation"));
+                }
             }
-        }
-        final ConfigurationSection playerProfile = config.getConfigurationSection("player_profile");
-        if (playerProfile != null) {
-            for (final String key : playerProfile.getKeys(false)) {
-                con.updateSQL(UpdateType.INSERT_PLAYER_PROFILE,
-                        playerProfile.getString(key + ".playerID"),
-                        playerProfile.getString(key + ".profileID"),
-                        playerProfile.getString(key + ".name"));
+            final ConfigurationSection playerProfile = config.getConfigurationSection("player_profile");
+            if (playerProfile != null) {
+                for (final String key : playerProfile.getKeys(false)) {
+                    con.updateSQL(UpdateType.INSERT_PLAYER_PROFILE,
+                            playerProfile.getString(key + ".playerID"),
+                            playerProfile.getString(key + ".profileID"),
+                            playerProfile.getString(key + ".name"));
+                }
             }
-        }
-        final ConfigurationSection objectives = config.getConfigurationSection("objectives");
-        if (objectives != null) {
-            for (final String key : objectives.getKeys(false)) {
-                con.updateSQL(UpdateType.INSERT_OBJECTIVE,
-                        objectives.getString(key + ".profileID"),
-                        objectives.getString(key + ".objective"),
-                        objectives.getString(key + ".instructions"));
+            final ConfigurationSection objectives = config.getConfigurationSection("objectives");
+            if (objectives != null) {
+                for (final String key : objectives.getKeys(false)) {
+                    con.updateSQL(UpdateType.INSERT_OBJECTIVE,
+                            objectives.getString(key + ".profileID"),
+                            objectives.getString(key + ".objective"),
+                            objectives.getString(key + ".instructions"));
+                }
             }
-        }
-        final ConfigurationSection tags = config.getConfigurationSection("tags");
-        if (tags != null) {
-            for (final String key : tags.getKeys(false)) {
-                con.updateSQL(UpdateType.INSERT_TAG,
-                        tags.getString(key + ".profileID"),
-                        tags.getString(key + ".tag"));
+            final ConfigurationSection tags = config.getConfigurationSection("tags");
+            if (tags != null) {
+                for (final String key : tags.getKeys(false)) {
+                    con.updateSQL(UpdateType.INSERT_TAG,
+                            tags.getString(key + ".profileID"),
+                            tags.getString(key + ".tag"));
+                }
             }
-        }
-        final ConfigurationSection points = config.getConfigurationSection("points");
-        if (points != null) {
-            for (final String key : points.getKeys(false)) {
-                con.updateSQL(UpdateType.INSERT_POINT,
-                        points.getString(key + ".profileID"),
-                        points.getString(key + ".category"),
-                        points.getString(key + ".count"));
+            final ConfigurationSection points = config.getConfigurationSection("points");
+            if (points != null) {
+                for (final String key : points.getKeys(false)) {
+                    con.updateSQL(UpdateType.INSERT_POINT,
+                            points.getString(key + ".profileID"),
+                            points.getString(key + ".category"),
+                            points.getString(key + ".count"));
+                }
             }
-        }
-        final ConfigurationSection journals = config.getConfigurationSection("journals");
-        if (journals != null) {
-            for (final String key : journals.getKeys(false)) {
-                con.updateSQL(UpdateType.INSERT_JOURNAL,
-                        journals.getString(key + ".id"),
-                        journals.getString(key + ".profileID"),
-                        journals.getString(key + ".pointer"),
-                        journals.getString(key + ".date"));
+            final ConfigurationSection journals = config.getConfigurationSection("journals");
+            if (journals != null) {
+                for (final String key : journals.getKeys(false)) {
+                    con.updateSQL(UpdateType.INSERT_JOURNAL,
+                            journals.getString(key + ".id"),
+                            journals.getString(key + ".profileID"),
+                            journals.getString(key + ".pointer"),
+                            journals.getString(key + ".date"));
+                }
             }
-        }
-        final ConfigurationSection backpack = config.getConfigurationSection("backpack");
-        if (backpack != null) {
-            for (final String key : backpack.getKeys(false)) {
-                con.updateSQL(UpdateType.INSERT_BACKPACK,
-                        backpack.getString(key + ".id"),
-                        backpack.getString(key + ".profileID"),
-                        backpack.getString(key + ".instruction"),
-                        backpack.getString(key + ".amount"));
+            final ConfigurationSection backpack = config.getConfigurationSection("backpack");
+            if (backpack != null) {
+                for (final String key : backpack.getKeys(false)) {
+                    con.updateSQL(UpdateType.INSERT_BACKPACK,
+                            backpack.getString(key + ".id"),
+                            backpack.getString(key + ".profileID"),
+                            backpack.getString(key + ".instruction"),
+                            backpack.getString(key + ".amount"));
+                }
             }
-        }
-        final ConfigurationSection globalPoints = config.getConfigurationSection("global_points");
-        if (globalPoints != null) {
-            for (final String key : globalPoints.getKeys(false)) {
-                con.updateSQL(UpdateType.INSERT_GLOBAL_POINT,
-                        globalPoints.getString(key + ".category"),
-                        globalPoints.getString(key + ".count"));
+            final ConfigurationSection globalPoints = config.getConfigurationSection("global_points");
+            if (globalPoints != null) {
+                for (final String key : globalPoints.getKeys(false)) {
+                    con.updateSQL(UpdateType.INSERT_GLOBAL_POINT,
+                            globalPoints.getString(key + ".category"),
+                            globalPoints.getString(key + ".count"));
+                }
             }
-        }
-        final ConfigurationSection globalTags = config.getConfigurationSection("global_tags");
-        if (globalTags != null) {
-            for (final String key : globalTags.getKeys(false)) {
-                con.updateSQL(UpdateType.INSERT_GLOBAL_TAG,
-                        globalTags.getString(key + ".tag"));
+            final ConfigurationSection globalTags = config.getConfigurationSection("global_tags");
+            if (globalTags != null) {
+                for (final String key : globalTags.getKeys(false)) {
+                    con.updateSQL(UpdateType.INSERT_GLOBAL_TAG,
+                            globalTags.getString(key + ".tag"));
+                }
             }
+        } finally {
+            con.closeStatements();
         }
         if (!file.delete()) {
             LOG.warn("Could not delete the backup file!");
@@ -0,0 +1,248 @@
+package org.betonquest.betonquest.database;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link Saver} that keeps only the latest state of frequently changing profile data.
+ * <p>
+ * Points, tags and objectives of a profile are collected per (profile, key) and only their final state is
+ * passed to the underlying saver once {@link #flush()} is called.
+ * All other records are passed through directly. Records that could touch the collected tables in another way,
+ * like deleting all points of a profile, first flush the collected state to keep the order of changes intact.
+ */
+@SuppressWarnings("PMD.AvoidSynchronizedStatement")
+public class CoalescingSaver implements Saver, Listener {
+    /**
+     * Records that are stored per key and only written in their final state.
+     */
+    private static final Set<UpdateType> COALESCED = EnumSet.of(
+            UpdateType.ADD_POINTS, UpdateType.REMOVE_POINTS,
+            UpdateType.ADD_TAGS, UpdateType.REMOVE_TAGS,
+            UpdateType.ADD_OBJECTIVES, UpdateType.REMOVE_OBJECTIVES);
+
+    /**
+     * Records that never touch the points, tags or objectives tables and can be written without flushing first.
+     */
+    private static final Set<UpdateType> INDEPENDENT = EnumSet.of(
+            UpdateType.ADD_JOURNAL, UpdateType.REMOVE_JOURNAL,
+            UpdateType.ADD_BACKPACK, UpdateType.DELETE_BACKPACK,
+            UpdateType.ADD_GLOBAL_TAGS, UpdateType.REMOVE_GLOBAL_TAGS,
+            UpdateType.ADD_GLOBAL_POINTS, UpdateType.REMOVE_GLOBAL_POINTS,
+            UpdateType.ADD_PLAYER, UpdateType.ADD_PROFILE, UpdateType.ADD_PLAYER_PROFILE,
+            UpdateType.UPDATE_PROFILE_NAME, UpdateType.UPDATE_PLAYER_LANGUAGE, UpdateType.UPDATE_CONVERSATION);
+
+    /**
+     * The saver that writes the records to the database.
+     */
+    private final Saver delegate;
+
+    /**
+     * The collected changes in the order they were first made.
+     */
+    private final Map<Key, Change> pending;
+
+    /**
+     * Creates a new coalescing saver.
+     *
+     * @param delegate the saver that writes the records to the database
+     */
+    public CoalescingSaver(final Saver delegate) {
+        this.delegate = delegate;
+        this.pending = new LinkedHashMap<>();
+    }
+
+    @Override
+    public void add(final Record rec) {
+        synchronized (pending) {
+            if (COALESCED.contains(rec.type())) {
+                collect(rec);
+                return;
+            }
+            if (!INDEPENDENT.contains(rec.type())) {
+                flushPending();
+            }
+            delegate.add(rec);
+        }
+    }
+
+    private void collect(final Record rec) {
+        final String[] args = rec.args();
+        final Key key = new Key(table(rec.type()), args[0], args[1]);
+        final boolean present = isAdd(rec.type());
+        final String data = present && args.length > 2 ? args[2] : null;
+        final Change change = pending.get(key);
+        if (change == null) {
+            pending.put(key, new Change(present ? State.ABSENT : State.UNKNOWN, present, data));
+        } else {
+            change.present = present;
+            change.data = data;
+        }
+    }
+
+    /**
+     * Passes the final state of all collected changes to the underlying saver.
+     */
+    public void flush() {
+        synchronized (pending) {
+            flushPending();
+        }
+    }
+
+    /**
+     * Passes the final state of all collected changes of one profile to the underlying saver.
+     *
+     * @param profileID the profile to flush the changes for
+     */
+    public void flush(final String profileID) {
+        synchronized (pending) {
+            final Iterator<Map.Entry<Key, Change>> iterator = pending.entrySet().iterator();
+            while (iterator.hasNext()) {
+                final Map.Entry<Key, Change> entry = iterator.next();
+                if (entry.getKey().profileID().equals(profileID)) {
+                    write(entry.getKey(), entry.getValue());
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    private void flushPending() {
+        for (final Map.Entry<Key, Change> entry : pending.entrySet()) {
+            write(entry.getKey(), entry.getValue());
+        }
+        pending.clear();
+    }
+
+    private void write(final Key key, final Change change) {
+        if (change.initial != State.ABSENT) {
+            delegate.add(new Record(key.table().remove, key.profileID(), key.name()));
+        }
+        if (change.present) {
+            delegate.add(change.data == null
+                    ? new Record(key.table().add, key.profileID(), key.name())
+                    : new Record(key.table().add, key.profileID(), key.name(), change.data));
+        }
+    }
+
+    /**
+     * Flushes the collected changes of a profile when its player leaves the server.
+     *
+     * @param event the quit event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(final PlayerQuitEvent event) {
+        flush(event.getPlayer().getUniqueId().toString());
+    }
+
+    @Override
+    public void end() {
+        flush();
+        delegate.end();
+    }
+
+    private static boolean isAdd(final UpdateType type) {
+        return type == UpdateType.ADD_POINTS || type == UpdateType.ADD_TAGS || type == UpdateType.ADD_OBJECTIVES;
+    }
+
+    private static Table table(final UpdateType type) {
+        return switch (type) {
+            case ADD_POINTS, REMOVE_POINTS -> Table.POINTS;
+            case ADD_TAGS, REMOVE_TAGS -> Table.TAGS;
+            default -> Table.OBJECTIVES;
+        };
+    }
+
+    /**
+     * The tables whose records are collected.
+     */
+    private enum Table {
+        /**
+         * Points of a profile, keyed by category.
+         */
+        POINTS(UpdateType.ADD_POINTS, UpdateType.REMOVE_POINTS),
+        /**
+         * Tags of a profile, keyed by tag.
+         */
+        TAGS(UpdateType.ADD_TAGS, UpdateType.REMOVE_TAGS),
+        /**
+         * Objectives of a profile, keyed by objective ID.
+         */
+        OBJECTIVES(UpdateType.ADD_OBJECTIVES, UpdateType.REMOVE_OBJECTIVES);
+
+        /**
+         * The update that inserts a row.
+         */
+        private final UpdateType add;
+
+        /**
+         * The update that deletes a row.
+         */
+        private final UpdateType remove;
+
+        Table(final UpdateType add, final UpdateType remove) {
+            this.add = add;
+            this.remove = remove;
+        }
+    }
+
+    /**
+     * What is known about the database row before the first collected change.
+     */
+    private enum State {
+        /**
+         * The row did not exist, because the first change inserted it.
+         */
+        ABSENT,
+        /**
+         * The row may exist.
+         */
+        UNKNOWN
+    }
+
+    /**
+     * Identifies a single row in one of the collected tables.
+     *
+     * @param table     the table of the row
+     * @param profileID the profile the row belongs to
+     * @param name      the category, tag or objective ID
+     */
+    private record Key(Table table, String profileID, String name) {
+    }
+
+    /**
+     * The final state of a single row.
+     */
+    private static final class Change {
+        /**
+         * What is known about the row before the first change.
+         */
+        private final State initial;
+
+        /**
+         * If the row exists after the last change.
+         */
+        private boolean present;
+
+        /**
+         * The data of the row after the last change, if it exists.
+         */
+        @Nullable
+        private String data;
+
+        private Change(final State initial, final boolean present, @Nullable final String data) {
+            this.initial = initial;
+            this.present = present;
+            this.data = data;
+        }
+    }
+}
@@ -9,10 +9,18 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Connects to the database and queries it.
+ * <p>
+ * Prepared statements for updates are cached per connector and reused for every following update of the same type.
+ * A connector is therefore not thread safe and must only be used by one thread at a time.
  */
 public class Connector {
     /**
@@ -21,14 +29,24 @@ public class Connector {
     private final BetonQuestLogger log;
 
     /**
-     * Table prefix.
+     * Database connection management.
      */
-    private final String prefix;
+    private final Database database;
 
     /**
-     * Database connection management.
+     * Prepared statements of the current connection.
      */
-    private final Database database;
+    private final Map<UpdateType, PreparedStatement> statements;
+
+    /**
+     * Amount of updates that reused a cached statement.
+     */
+    private final AtomicLong cacheHits;
+
+    /**
+     * Amount of updates that had to prepare a new statement.
+     */
+    private final AtomicLong cacheMisses;
 
     /**
      * Permanently active connection to the database.
@@ -42,8 +60,10 @@ public class Connector {
     public Connector() {
         final BetonQuest plugin = BetonQuest.getInstance();
         this.log = plugin.getLoggerFactory().create(Connector.class);
-        prefix = plugin.getPluginConfig().getString("mysql.prefix", "");
         database = plugin.getDB();
+        statements = new EnumMap<>(UpdateType.class);
+        cacheHits = new AtomicLong();
+        cacheMisses = new AtomicLong();
         connection = database.getConnection();
     }
 
@@ -52,15 +72,16 @@ public class Connector {
      *
      * @return true if the connection is refreshed successfully
      */
-    @SuppressFBWarnings({"ODR_OPEN_DATABASE_RESOURCE", "OBL_UNSATISFIED_OBLIGATION"})
     public final boolean refresh() {
         if (connection == null) {
             connection = database.getConnection();
         } else {
-            try {
-                connection.prepareStatement("SELECT 1").executeQuery().close();
+            try (PreparedStatement statement = connection.prepareStatement("SELECT 1");
+                 ResultSet ignored = statement.executeQuery()) {
+                return true;
             } catch (final SQLException e) {
                 log.warn("Database connection was lost, reconnecting...", e);
+                closeStatements();
                 database.closeConnection();
                 connection = database.getConnection();
             }
@@ -93,7 +114,9 @@ public class Connector {
     @SuppressWarnings("PMD.CloseResource")
     @SuppressFBWarnings({"ODR_OPEN_DATABASE_RESOURCE", "OBL_UNSATISFIED_OBLIGATION_EXCEPTION_EDGE"})
     public ResultSet querySQL(final QueryType type, final VariableResolver variableResolver) {
-        final String sql = type.createSql(prefix);
+        final String sql = database.getSql(type);
+        final ReentrantLock lock = database.getStatementLock();
+        lock.lock();
         try {
             Objects.requireNonNull(connection);
             final PreparedStatement statement = connection.prepareStatement(sql);
@@ -101,6 +124,8 @@ public class Connector {
             return statement.executeQuery();
         } catch (final SQLException e) {
             throw new IllegalStateException("There was a exception with SQL", e);
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -110,19 +135,136 @@ public class Connector {
      * @param type type of the update
      * @param args arguments
      */
+    @SuppressWarnings("PMD.CloseResource")
     public void updateSQL(final UpdateType type, final String... args) {
-        final String sql = type.createSql(prefix);
+        final ReentrantLock lock = database.getStatementLock();
+        lock.lock();
+        try {
+            final PreparedStatement statement = getStatement(type);
+            setArguments(statement, args);
+            statement.executeUpdate();
+        } catch (final SQLException e) {
+            log.error("There was an exception with SQL", e);
+            closeStatement(type);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Updates the database with all given records inside one transaction.
+     * <p>
+     * The records are written in the given order. Consecutive records of the same {@link UpdateType} are sent
+     * as one JDBC batch.
+     * If the transaction fails it is rolled back and the records are written one by one,
+     * so a single broken record does not discard the others.
+     * <p>
+     * The connection is shared by all connectors, so the statement lock of the database is held for the whole
+     * transaction. Statements of other connectors wait until it is committed or rolled back.
+     *
+     * @param records the records to write
+     */
+    public void updateSQL(final List<Saver.Record> records) {
+        if (records.isEmpty()) {
+            return;
+        }
         Objects.requireNonNull(connection);
-        try (PreparedStatement statement = connection.prepareStatement(sql)) {
-            for (int i = 0; i < args.length; i++) {
-                statement.setString(i + 1, args[i]);
+        final ReentrantLock lock = database.getStatementLock();
+        lock.lock();
+        try {
+            final boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                executeBatches(records);
+                connection.commit();
+            } catch (final SQLException e) {
+                connection.rollback();
+                closeStatements();
+                log.warn("Batch update of " + records.size() + " records failed, writing them one by one instead", e);
+                connection.setAutoCommit(true);
+                for (final Saver.Record rec : records) {
+                    updateSQL(rec.type(), rec.args());
+                }
+            } finally {
+                connection.setAutoCommit(autoCommit);
             }
-            statement.executeUpdate();
         } catch (final SQLException e) {
             log.error("There was an exception with SQL", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @SuppressWarnings("PMD.CloseResource")
+    private void executeBatches(final List<Saver.Record> records) throws SQLException {
+        PreparedStatement current = null;
+        for (final Saver.Record rec : records) {
+            final PreparedStatement statement = getStatement(rec.type());
+            if (current != null && current != statement) {
+                current.executeBatch();
+            }
+            current = statement;
+            setArguments(statement, rec.args());
+            statement.addBatch();
+        }
+        if (current != null) {
+            current.executeBatch();
+        }
+    }
+
+    @SuppressWarnings("PMD.CloseResource")
+    private PreparedStatement getStatement(final UpdateType type) throws SQLException {
+        final PreparedStatement cached = statements.get(type);
+        if (cached != null) {
+            cacheHits.incrementAndGet();
+            return cached;
+        }
+        Objects.requireNonNull(connection);
+        cacheMisses.incrementAndGet();
+        final PreparedStatement statement = connection.prepareStatement(database.getSql(type));
+        statements.put(type, statement);
+        return statement;
+    }
+
+    private void setArguments(final PreparedStatement statement, final String... args) throws SQLException {
+        for (int i = 0; i < args.length; i++) {
+            statement.setString(i + 1, args[i]);
+        }
+    }
+
+    @SuppressWarnings("PMD.CloseResource")
+    private void closeStatement(final UpdateType type) {
+        final PreparedStatement statement = statements.remove(type);
+        if (statement != null) {
+            try {
+                statement.close();
+            } catch (final SQLException e) {
+                log.debug("Could not close prepared statement", e);
+            }
         }
     }
 
+    /**
+     * Closes all cached prepared statements of this connector.
+     * They will be prepared again on the next update.
+     */
+    public void closeStatements() {
+        for (final UpdateType type : List.copyOf(statements.keySet())) {
+            closeStatement(type);
+        }
+    }
+
+    /**
+     * Gets the share of updates that could reuse a cached prepared statement.
+     *
+     * @return the hit rate between 0 and 1, or 0 if there was no update yet
+     */
+    public double getStatementCacheHitRate() {
+        final long hits = cacheHits.get();
+        final long total = hits + cacheMisses.get();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
     /**
      * Resolver for variables in prepared statements.
      */
@@ -9,8 +9,11 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Abstract Database class, serves as a base for any connection method (MySQL,
@@ -29,6 +32,22 @@ public abstract class Database {
      */
     private final BetonQuestLogger log;
 
+    /**
+     * The SQL of every query for the configured prefix.
+     */
+    private final Map<QueryType, String> querySql;
+
+    /**
+     * The SQL of every update for the configured prefix.
+     */
+    private final Map<UpdateType, String> updateSql;
+
+    /**
+     * Lock serializing the statements of all {@link Connector}s on the shared connection,
+     * so no statement runs inside the transaction of a batch update.
+     */
+    private final ReentrantLock statementLock;
+
     @Nullable
     protected Connection con;
 
@@ -37,6 +56,44 @@ public abstract class Database {
         this.plugin = plugin;
         this.prefix = plugin.getPluginConfig().getString("mysql.prefix", "");
         this.profileInitialName = plugin.getPluginConfig().getString("profiles.initial_name", "");
+        this.querySql = new EnumMap<>(QueryType.class);
+        for (final QueryType type : QueryType.values()) {
+            querySql.put(type, type.createSql(prefix));
+        }
+        this.updateSql = new EnumMap<>(UpdateType.class);
+        for (final UpdateType type : UpdateType.values()) {
+            updateSql.put(type, type.createSql(prefix));
+        }
+        this.statementLock = new ReentrantLock();
+    }
+
+    /**
+     * Gets the lock that must be held while executing statements on the shared connection.
+     *
+     * @return the statement lock
+     */
+    public ReentrantLock getStatementLock() {
+        return statementLock;
+    }
+
+    /**
+     * Gets the SQL of the query for the configured prefix.
+     *
+     * @param type the type of the query
+     * @return the SQL code
+     */
+    public String getSql(final QueryType type) {
+        return querySql.get(type);
+    }
+
+    /**
+     * Gets the SQL of the update for the configured prefix.
+     *
+     * @param type the type of the update
+     * @return the SQL code
+     */
+    public String getSql(final UpdateType type) {
+        return updateSql.get(type);
     }
 
     public Connection getConnection() {
@@ -6,9 +6,12 @@ import org.betonquest.betonquest.database.Saver.Record;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents an object storing all player-related data, which can load and save it.
@@ -28,12 +31,12 @@ public class GlobalData implements TagData {
     /**
      * The set global tags.
      */
-    private final List<String> globalTags = new ArrayList<>();
+    private final Set<String> globalTags = ConcurrentHashMap.newKeySet();
 
     /**
-     * The set global points.
+     * The set global points by their lower case category.
      */
-    private final List<Point> globalPoints = new ArrayList<>();
+    private final Map<String, Point> globalPoints = new ConcurrentHashMap<>();
 
     /**
      * Loads all global data from the database.
@@ -59,7 +62,8 @@ public class GlobalData implements TagData {
                     this.globalTags.add(globalTags.getString("tag"));
                 }
                 while (globalPoints.next()) {
-                    this.globalPoints.add(new Point(globalPoints.getString("category"), globalPoints.getInt("count")));
+                    final String category = globalPoints.getString("category");
+                    this.globalPoints.put(categoryKey(category), new Point(category, globalPoints.getInt("count")));
                 }
                 log.debug("There are " + this.globalTags.size() + " global_tags and " + this.globalPoints.size()
                         + " global_points loaded");
@@ -69,14 +73,18 @@ public class GlobalData implements TagData {
         }
     }
 
+    private static String categoryKey(final String category) {
+        return category.toLowerCase(Locale.ROOT);
+    }
+
     /**
      * Returns the List of Tags.
      *
-     * @return the List of Tags
+     * @return an unmodifiable copy of the Tags
      */
     @Override
     public List<String> getTags() {
-        return globalTags;
+        return List.copyOf(globalTags);
     }
 
     /**
@@ -97,8 +105,7 @@ public class GlobalData implements TagData {
      */
     @Override
     public void addTag(final String tag) {
-        if (!globalTags.contains(tag)) {
-            globalTags.add(tag);
+        if (globalTags.add(tag)) {
             saver.add(new Record(UpdateType.ADD_GLOBAL_TAGS, tag));
         }
     }
@@ -118,10 +125,10 @@ public class GlobalData implements TagData {
     /**
      * Returns the List of Points.
      *
-     * @return the List of Points
+     * @return an unmodifiable copy of the Points
      */
     public List<Point> getPoints() {
-        return globalPoints;
+        return List.copyOf(globalPoints.values());
     }
 
     /**
@@ -131,12 +138,11 @@ public class GlobalData implements TagData {
      * @return amount of global_points
      */
     public Optional<Integer> getPointsFromCategory(final String category) {
-        for (final Point p : globalPoints) {
-            if (p.getCategory().equals(category)) {
-                return Optional.of(p.getCount());
-            }
+        final Point point = globalPoints.get(categoryKey(category));
+        if (point == null || !point.getCategory().equals(category)) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        return Optional.of(point.getCount());
     }
 
     /**
@@ -148,19 +154,9 @@ public class GlobalData implements TagData {
      */
     public void modifyPoints(final String category, final int count) {
         saver.add(new Record(UpdateType.REMOVE_GLOBAL_POINTS, category));
-        // check if the category already exists
-        for (final Point point : globalPoints) {
-            if (point.getCategory().equalsIgnoreCase(category)) {
-                // if it does, add global_points to it
-                saver.add(new Record(UpdateType.ADD_GLOBAL_POINTS,
-                        category, String.valueOf(point.getCount() + count)));
-                point.addPoints(count);
-                return;
-            }
-        }
-        // if not then create new point category with given amount of global_points
-        globalPoints.add(new Point(category, count));
-        saver.add(new Record(UpdateType.ADD_GLOBAL_POINTS, category, String.valueOf(count)));
+        final Point point = globalPoints.compute(categoryKey(category), (key, previous) -> previous == null
+                ? new Point(category, count) : new Point(previous.getCategory(), previous.getCount() + count));
+        saver.add(new Record(UpdateType.ADD_GLOBAL_POINTS, category, String.valueOf(point.getCount())));
     }
 
     /**
@@ -172,8 +168,7 @@ public class GlobalData implements TagData {
      */
     public void setPoints(final String category, final int count) {
         saver.add(new Record(UpdateType.REMOVE_GLOBAL_POINTS, category));
-        globalPoints.removeIf(point -> point.getCategory().equalsIgnoreCase(category));
-        globalPoints.add(new Point(category, count));
+        globalPoints.put(categoryKey(category), new Point(category, count));
         saver.add(new Record(UpdateType.ADD_GLOBAL_POINTS, category, String.valueOf(count)));
     }
 
@@ -183,15 +178,7 @@ public class GlobalData implements TagData {
      * @param category name of a point category
      */
     public void removePointsCategory(final String category) {
-        Point pointToRemove = null;
-        for (final Point point : globalPoints) {
-            if (point.getCategory().equalsIgnoreCase(category)) {
-                pointToRemove = point;
-            }
-        }
-        if (pointToRemove != null) {
-            globalPoints.remove(pointToRemove);
-        }
+        globalPoints.remove(categoryKey(category));
         saver.add(new Record(UpdateType.REMOVE_GLOBAL_POINTS, category));
     }
 
@@ -27,8 +27,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -58,11 +60,14 @@ public class PlayerData implements TagData {
 
     private final String profileID;
 
-    private final List<String> tags = new CopyOnWriteArrayList<>();
+    private final Set<String> tags = ConcurrentHashMap.newKeySet();
 
     private final List<Pointer> entries = new CopyOnWriteArrayList<>();
 
-    private final List<Point> points = new CopyOnWriteArrayList<>();
+    /**
+     * The points of the profile by their lower case category.
+     */
+    private final Map<String, Point> points = new ConcurrentHashMap<>();
 
     private final Map<String, String> objectives = new ConcurrentHashMap<>();
 
@@ -71,6 +76,11 @@ public class PlayerData implements TagData {
 
     private List<ItemStack> backpack = new CopyOnWriteArrayList<>();
 
+    /**
+     * Backpack items loaded from the database which are not parsed yet.
+     */
+    private final List<StoredItem> storedBackpack = new ArrayList<>();
+
     /**
      * The state of a conversation the player is in.
      */
@@ -93,49 +103,27 @@ public class PlayerData implements TagData {
 
     /**
      * Loads all data for the profile and puts it in appropriate lists.
+     * <p>
+     * All tables are read with a single query. Backpack items are only parsed when the backpack is first used.
      */
-    @SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.NPathComplexity", "PMD.CognitiveComplexity", "PMD.AvoidDuplicateLiterals"})
+    @SuppressWarnings("PMD.AvoidDuplicateLiterals")
     public final void loadAllPlayerData() {
         try {
 
             final Connector con = new Connector();
 
-            try (ResultSet objectiveResults = con.querySQL(QueryType.SELECT_OBJECTIVES, profileID);
-                 ResultSet tagResults = con.querySQL(QueryType.SELECT_TAGS, profileID);
-                 ResultSet journalResults = con.querySQL(QueryType.SELECT_JOURNAL, profileID);
-                 ResultSet pointResults = con.querySQL(QueryType.SELECT_POINTS, profileID);
-                 ResultSet backpackResults = con.querySQL(QueryType.SELECT_BACKPACK, profileID);
-                 ResultSet profileResult = con.querySQL(QueryType.SELECT_PLAYER, profileID)) {
-
-                while (objectiveResults.next()) {
-                    objectives.put(objectiveResults.getString("objective"), objectiveResults.getString("instructions"));
-                }
-
-                while (tagResults.next()) {
-                    tags.add(tagResults.getString("tag"));
-                }
-
-                while (journalResults.next()) {
-                    entries.add(new Pointer(journalResults.getString("pointer"), journalResults.getTimestamp("date").getTime()));
-                }
-
-                while (pointResults.next()) {
-                    points.add(new Point(pointResults.getString("category"), pointResults.getInt("count")));
+            try (ResultSet results = con.querySQL(QueryType.SELECT_PROFILE_DATA,
+                    profileID, profileID, profileID, profileID, profileID, profileID)) {
+                boolean playerFound = false;
+                while (results.next()) {
+                    playerFound |= loadRow(results);
                 }
-
-                while (backpackResults.next()) {
-                    addItemToBackpack(backpackResults);
-                }
-
-                if (profileResult.next()) {
-                    loadLanguage(profileResult);
-                    loadActiveConversation(profileResult);
-                } else {
+                if (!playerFound) {
                     setupProfile();
                 }
 
                 log.debug("Loaded " + objectives.size() + " objectives, " + tags.size() + " tags, " + points.size()
-                        + " points, " + entries.size() + " journal entries and " + backpack.size()
+                        + " points, " + entries.size() + " journal entries and " + storedBackpack.size()
                         + " items for " + profile);
             }
         } catch (final SQLException e) {
@@ -143,16 +131,34 @@ public class PlayerData implements TagData {
         }
     }
 
-    private void loadLanguage(final ResultSet playerResult) throws SQLException {
-        profileLanguage = playerResult.getString("language");
+    private boolean loadRow(final ResultSet results) throws SQLException {
+        switch (results.getString("kind")) {
+            case "objective" -> objectives.put(results.getString("name"), results.getString("data"));
+            case "tag" -> tags.add(results.getString("name"));
+            case "journal" -> entries.add(new Pointer(results.getString("name"), results.getTimestamp("date").getTime()));
+            case "point" -> {
+                final String category = results.getString("name");
+                points.put(categoryKey(category), new Point(category, results.getInt("amount")));
+            }
+            case "backpack" -> storedBackpack.add(new StoredItem(results.getString("data"), results.getInt("amount")));
+            case "player" -> {
+                loadLanguage(results.getString("name"));
+                loadActiveConversation(results.getString("data"));
+                return true;
+            }
+            default -> log.debug("Unknown profile data kind '" + results.getString("kind") + "'");
+        }
+        return false;
+    }
+
+    private void loadLanguage(final String language) {
+        profileLanguage = language;
         if (DEFAULT_LANGUAGE_KEY.equals(profileLanguage)) {
             profileLanguage = Config.getLanguage();
         }
     }
 
-    private void loadActiveConversation(final ResultSet playerResult) throws SQLException {
-        final String fullInstruction = playerResult.getString("conversation");
-
+    private void loadActiveConversation(@Nullable final String fullInstruction) {
         try {
             final Optional<PlayerConversationState> playerConversationState = PlayerConversationState.fromString(fullInstruction);
             playerConversationState.ifPresent(conversationState -> activeConversation = conversationState);
@@ -172,28 +178,38 @@ public class PlayerData implements TagData {
                 profileID, BetonQuest.getInstance().getPluginConfig().getString("profiles.initial_name", "default")));
     }
 
-    private void addItemToBackpack(final ResultSet backpackResults) throws SQLException {
-        final String instruction = backpackResults.getString("instruction");
-        final int amount = backpackResults.getInt("amount");
-        final ItemStack item;
-        try {
-            item = new QuestItem(instruction).generate(amount);
-        } catch (final QuestException e) {
-            log.warn("Could not load backpack item for " + profile
-                    + ", with instruction '" + instruction + "', because: " + e.getMessage(), e);
-            return;
+    /**
+     * Gets the backpack and parses the items loaded from the database on first use.
+     *
+     * @return the backpack items
+     */
+    private List<ItemStack> loadedBackpack() {
+        synchronized (storedBackpack) {
+            for (final StoredItem stored : storedBackpack) {
+                try {
+                    backpack.add(new QuestItem(stored.instruction()).generate(stored.amount()));
+                } catch (final QuestException e) {
+                    log.warn("Could not load backpack item for " + profile
+                            + ", with instruction '" + stored.instruction() + "', because: " + e.getMessage(), e);
+                }
+            }
+            storedBackpack.clear();
         }
-        backpack.add(item);
+        return backpack;
+    }
+
+    private static String categoryKey(final String category) {
+        return category.toLowerCase(Locale.ROOT);
     }
 
     /**
      * Returns the List of Tags for this profile.
      *
-     * @return the List of Tags
+     * @return an unmodifiable copy of the Tags
      */
     @Override
     public List<String> getTags() {
-        return Collections.unmodifiableList(tags);
+        return List.copyOf(tags);
     }
 
     /**
@@ -215,8 +231,7 @@ public class PlayerData implements TagData {
     @Override
     public void addTag(final String tag) {
         synchronized (tags) {
-            if (!tags.contains(tag)) {
-                tags.add(tag);
+            if (tags.add(tag)) {
                 saver.add(new Record(UpdateType.ADD_TAGS, profileID, tag));
                 BetonQuest.getInstance()
                         .callSyncBukkitEvent(new PlayerTagAddEvent(profile, tag));
@@ -233,8 +248,7 @@ public class PlayerData implements TagData {
     @Override
     public void removeTag(final String tag) {
         synchronized (tags) {
-            if (tags.contains(tag)) {
-                tags.remove(tag);
+            if (tags.remove(tag)) {
                 saver.add(new Record(UpdateType.REMOVE_TAGS, profileID, tag));
                 BetonQuest.getInstance()
                         .callSyncBukkitEvent(new PlayerTagRemoveEvent(profile, tag));
@@ -245,10 +259,10 @@ public class PlayerData implements TagData {
     /**
      * Returns the List of Points for this profile.
      *
-     * @return the List of Points
+     * @return an unmodifiable copy of the Points
      */
     public List<Point> getPoints() {
-        return Collections.unmodifiableList(points);
+        return List.copyOf(points.values());
     }
 
     /**
@@ -258,14 +272,11 @@ public class PlayerData implements TagData {
      * @return amount of points
      */
     public Optional<Integer> getPointsFromCategory(final String category) {
-        synchronized (points) {
-            for (final Point p : points) {
-                if (p.getCategory().equals(category)) {
-                    return Optional.of(p.getCount());
-                }
-            }
+        final Point point = points.get(categoryKey(category));
+        if (point == null || !point.getCategory().equals(category)) {
             return Optional.empty();
         }
+        return Optional.of(point.getCount());
     }
 
     /**
@@ -278,20 +289,20 @@ public class PlayerData implements TagData {
     public void modifyPoints(final String category, final int count) {
         synchronized (points) {
             saver.add(new Record(UpdateType.REMOVE_POINTS, profileID, category));
-            // check if the category already exists
-            for (final Point point : points) {
-                if (point.getCategory().equalsIgnoreCase(category)) {
-                    // if it does, add points to it
-                    saver.add(new Record(UpdateType.ADD_POINTS,
-                            profileID, category, String.valueOf(point.getCount() + count)));
-                    point.addPoints(count);
-                    BetonQuest.getInstance().callSyncBukkitEvent(new PlayerUpdatePointEvent(profile, category, point.getCount()));
-                    return;
-                }
+            final String key = categoryKey(category);
+            final Point point = points.get(key);
+            if (point != null) {
+                final int newCount = point.getCount() + count;
+                saver.add(new Record(UpdateType.ADD_POINTS, profileID, category, String.valueOf(newCount)));
+                points.put(key, new Point(point.getCategory(), newCount));
+                BetonQuest.getInstance().getPointLeaderboards().update(profile, category, newCount);
+                BetonQuest.getInstance().callSyncBukkitEvent(new PlayerUpdatePointEvent(profile, category, newCount));
+                return;
             }
             // if not then create new point category with given amount of points
-            points.add(new Point(category, count));
+            points.put(key, new Point(category, count));
             saver.add(new Record(UpdateType.ADD_POINTS, profileID, category, String.valueOf(count)));
+            BetonQuest.getInstance().getPointLeaderboards().update(profile, category, count);
             BetonQuest.getInstance().callSyncBukkitEvent(new PlayerUpdatePointEvent(profile, category, count));
         }
     }
@@ -306,9 +317,9 @@ public class PlayerData implements TagData {
     public void setPoints(final String category, final int count) {
         synchronized (points) {
             saver.add(new Record(UpdateType.REMOVE_POINTS, profileID, category));
-            points.removeIf(point -> point.getCategory().equalsIgnoreCase(category));
-            points.add(new Point(category, count));
+            points.put(categoryKey(category), new Point(category, count));
             saver.add(new Record(UpdateType.ADD_POINTS, profileID, category, String.valueOf(count)));
+            BetonQuest.getInstance().getPointLeaderboards().update(profile, category, count);
             BetonQuest.getInstance().callSyncBukkitEvent(new PlayerUpdatePointEvent(profile, category, count));
         }
     }
@@ -320,17 +331,11 @@ public class PlayerData implements TagData {
      */
     public void removePointsCategory(final String category) {
         synchronized (points) {
-            Point pointToRemove = null;
-            for (final Point point : points) {
-                if (point.getCategory().equalsIgnoreCase(category)) {
-                    pointToRemove = point;
-                }
-            }
-            if (pointToRemove != null) {
-                points.remove(pointToRemove);
+            if (points.remove(categoryKey(category)) != null) {
                 BetonQuest.getInstance().callSyncBukkitEvent(new PlayerUpdatePointEvent(profile, category, 0));
             }
             saver.add(new Record(UpdateType.REMOVE_POINTS, profileID, category));
+            BetonQuest.getInstance().getPointLeaderboards().remove(profile, category);
         }
     }
 
@@ -355,7 +360,7 @@ public class PlayerData implements TagData {
         for (final Map.Entry<String, String> entry : objectives.entrySet()) {
             final String objective = entry.getKey();
             try {
-                final ObjectiveID objectiveID = new ObjectiveID(null, objective);
+                final ObjectiveID objectiveID = ObjectiveID.of(null, objective);
                 BetonQuest.getInstance().getQuestTypeAPI().resumeObjective(profile, objectiveID, entry.getValue());
             } catch (final QuestException e) {
                 log.warn("Loaded '" + objective
@@ -443,7 +448,7 @@ public class PlayerData implements TagData {
      * @return list of itemstacks
      */
     public List<ItemStack> getBackpack() {
-        return (List<ItemStack>) copyItemList(backpack, new ArrayList<>());
+        return (List<ItemStack>) copyItemList(loadedBackpack(), new ArrayList<>());
     }
 
     /**
@@ -452,6 +457,9 @@ public class PlayerData implements TagData {
      * @param list list of all items in the backpack
      */
     public void setBackpack(final List<ItemStack> list) {
+        synchronized (storedBackpack) {
+            storedBackpack.clear();
+        }
         this.backpack = (List<ItemStack>) copyItemList(list, new CopyOnWriteArrayList<>());
         refreshBackpack(list);
     }
@@ -474,7 +482,7 @@ public class PlayerData implements TagData {
     @SuppressWarnings("PMD.CognitiveComplexity")
     public void addItem(final ItemStack item, final int amount) {
         int inputAmount = amount;
-        for (final ItemStack itemStack : backpack) {
+        for (final ItemStack itemStack : loadedBackpack()) {
             if (item.isSimilar(itemStack)) {
                 // if items are similar they can be joined in a single itemstack
                 if (inputAmount + itemStack.getAmount() <= itemStack.getMaxStackSize()) {
@@ -566,6 +574,9 @@ public class PlayerData implements TagData {
         points.clear();
         entries.clear();
         getJournal().clear(); // journal can be null, so use a method to get it
+        synchronized (storedBackpack) {
+            storedBackpack.clear();
+        }
         backpack.clear();
         // clear the database
         saver.add(new Record(UpdateType.DELETE_OBJECTIVES, profileID));
@@ -586,4 +597,13 @@ public class PlayerData implements TagData {
         }
         return target;
     }
+
+    /**
+     * A backpack item as it is stored in the database.
+     *
+     * @param instruction the item instruction
+     * @param amount      the amount of the item
+     */
+    private record StoredItem(String instruction, int amount) {
+    }
 }
@@ -0,0 +1,273 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.profile.OnlineProfile;
+import org.betonquest.betonquest.api.profile.Profile;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory leaderboards of the points of the players' active profiles, one per point category.
+ * <p>
+ * A category is loaded from the database on a background thread once it is requested. After that, point changes
+ * of online players are applied directly, and all loaded categories are reconciled with the database on a
+ * background thread from time to time. Player names are cached, so reading a leaderboard needs neither SQL nor
+ * name lookups.
+ */
+@SuppressWarnings("PMD.AvoidSynchronizedStatement")
+public class PointLeaderboards {
+    /**
+     * The time in ticks between two reconciliations with the database.
+     */
+    public static final long RECONCILE_INTERVAL = 20L * 60 * 5;
+
+    /**
+     * The minimal time in which changes applied directly are preferred over the database.
+     */
+    private static final long MIN_LIVE_GRACE_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    /**
+     * The milliseconds of one tick.
+     */
+    private static final long MILLIS_PER_TICK = 50;
+
+    /**
+     * Custom {@link BetonQuestLogger} instance for this class.
+     */
+    private final BetonQuestLogger log;
+
+    /**
+     * The plugin to schedule the database loading with.
+     */
+    private final Plugin plugin;
+
+    /**
+     * The loaded leaderboards by their category.
+     */
+    private final Map<String, Board> boards;
+
+    /**
+     * The cached names of the players by their UUID.
+     */
+    private final Map<UUID, String> names;
+
+    /**
+     * The time in which changes applied directly are preferred over the database, because they may not be saved yet.
+     */
+    private final long liveGraceMillis;
+
+    /**
+     * Creates the leaderboards without loading any category.
+     *
+     * @param log            the custom logger for this class
+     * @param plugin         the plugin to schedule the database loading with
+     * @param saveDelayTicks the maximum time in ticks the saver delays writing a change
+     */
+    public PointLeaderboards(final BetonQuestLogger log, final Plugin plugin, final long saveDelayTicks) {
+        this.log = log;
+        this.plugin = plugin;
+        this.liveGraceMillis = Math.max(MIN_LIVE_GRACE_MILLIS, 2 * saveDelayTicks * MILLIS_PER_TICK);
+        this.boards = new ConcurrentHashMap<>();
+        this.names = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets the best scores of a category.
+     * If the category was not requested before, it is loaded in the background and the result is empty.
+     *
+     * @param category   the point category
+     * @param descending true to get the highest scores, false to get the lowest scores
+     * @param limit      the maximum amount of scores
+     * @return the scores in order
+     */
+    public List<Score> getTop(final String category, final boolean descending, final int limit) {
+        final Board board = boards.computeIfAbsent(category, key -> {
+            final Board created = new Board();
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> reconcile(key, created));
+            return created;
+        });
+        return board.top(descending, limit, names);
+    }
+
+    /**
+     * Applies a changed amount of points of a profile to the leaderboard of its category, if it is loaded.
+     * Only changes of online players are applied, as they play their active profile.
+     *
+     * @param profile  the profile whose points changed
+     * @param category the point category
+     * @param count    the new amount of points
+     */
+    public void update(final Profile profile, final String category, final int count) {
+        final Board board = boards.get(category);
+        final Optional<OnlineProfile> onlineProfile = profile.getOnlineProfile();
+        if (board == null || onlineProfile.isEmpty()) {
+            return;
+        }
+        final UUID playerID = profile.getPlayerUUID();
+        names.put(playerID, onlineProfile.get().getPlayer().getName());
+        board.put(playerID, count, System.currentTimeMillis());
+    }
+
+    /**
+     * Removes a profile from the leaderboard of a category, if it is loaded.
+     * Only changes of online players are applied, as they play their active profile.
+     *
+     * @param profile  the profile whose points were removed
+     * @param category the point category
+     */
+    public void remove(final Profile profile, final String category) {
+        final Board board = boards.get(category);
+        if (board != null && profile.getOnlineProfile().isPresent()) {
+            board.remove(profile.getPlayerUUID(), System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Reloads all requested categories from the database.
+     * This queries the database and resolves unknown player names and must not be called on the main thread.
+     */
+    public void reconcile() {
+        for (final Map.Entry<String, Board> entry : boards.entrySet()) {
+            reconcile(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void reconcile(final String category, final Board board) {
+        final long started = System.currentTimeMillis();
+        final Map<UUID, Integer> loaded = new HashMap<>();
+        final Connector con = new Connector();
+        try (ResultSet resultSet = con.querySQL(QueryType.LOAD_POINTS_OF_CATEGORY, category)) {
+            while (resultSet.next()) {
+                loaded.put(UUID.fromString(resultSet.getString("playerID")), resultSet.getInt("count"));
+            }
+        } catch (final SQLException e) {
+            log.error("There was an SQL exception while loading the leaderboard of '" + category + "'", e);
+            return;
+        }
+        for (final UUID playerID : loaded.keySet()) {
+            if (!names.containsKey(playerID)) {
+                final String name = Bukkit.getOfflinePlayer(playerID).getName();
+                names.put(playerID, name == null ? playerID.toString() : name);
+            }
+        }
+        board.replace(loaded, started - liveGraceMillis);
+        log.debug("Loaded the leaderboard of '" + category + "' with " + loaded.size() + " entries");
+    }
+
+    /**
+     * A score on a leaderboard.
+     *
+     * @param playerName the name of the player
+     * @param count      the amount of points
+     */
+    public record Score(String playerName, int count) {
+    }
+
+    /**
+     * An entry of a leaderboard, ordered by its count and player.
+     *
+     * @param count    the amount of points
+     * @param playerID the UUID of the player
+     */
+    private record Entry(int count, UUID playerID) {
+        /**
+         * The ascending order of the entries.
+         */
+        private static final Comparator<Entry> ORDER = Comparator.comparingInt(Entry::count).thenComparing(Entry::playerID);
+    }
+
+    /**
+     * The scores of a single category.
+     */
+    private static final class Board {
+        /**
+         * The entries in ascending order.
+         */
+        private final NavigableSet<Entry> sorted = new TreeSet<>(Entry.ORDER);
+
+        /**
+         * The counts by player.
+         */
+        private final Map<UUID, Integer> counts = new HashMap<>();
+
+        /**
+         * The time of the last change applied directly, by player.
+         */
+        private final Map<UUID, Long> liveChanges = new HashMap<>();
+
+        private Board() {
+        }
+
+        private void put(final UUID playerID, final int count, final long time) {
+            synchronized (this) {
+                set(playerID, count);
+                liveChanges.put(playerID, time);
+            }
+        }
+
+        private void remove(final UUID playerID, final long time) {
+            synchronized (this) {
+                final Integer previous = counts.remove(playerID);
+                if (previous != null) {
+                    sorted.remove(new Entry(previous, playerID));
+                }
+                liveChanges.put(playerID, time);
+            }
+        }
+
+        private void set(final UUID playerID, final int count) {
+            final Integer previous = counts.put(playerID, count);
+            if (previous != null) {
+                sorted.remove(new Entry(previous, playerID));
+            }
+            sorted.add(new Entry(count, playerID));
+        }
+
+        private void replace(final Map<UUID, Integer> loaded, final long liveSince) {
+            synchronized (this) {
+                liveChanges.values().removeIf(time -> time < liveSince);
+                final Iterator<Map.Entry<UUID, Integer>> iterator = counts.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    final Map.Entry<UUID, Integer> entry = iterator.next();
+                    if (!loaded.containsKey(entry.getKey()) && !liveChanges.containsKey(entry.getKey())) {
+                        sorted.remove(new Entry(entry.getValue(), entry.getKey()));
+                        iterator.remove();
+                    }
+                }
+                for (final Map.Entry<UUID, Integer> entry : loaded.entrySet()) {
+                    if (!liveChanges.containsKey(entry.getKey())) {
+                        set(entry.getKey(), entry.getValue());
+                    }
+                }
+            }
+        }
+
+        private List<Score> top(final boolean descending, final int limit, final Map<UUID, String> names) {
+            final List<Score> scores = new ArrayList<>(limit);
+            synchronized (this) {
+                final Iterator<Entry> iterator = descending ? sorted.descendingIterator() : sorted.iterator();
+                while (iterator.hasNext() && scores.size() < limit) {
+                    final Entry entry = iterator.next();
+                    final String name = names.get(entry.playerID());
+                    scores.add(new Score(name == null ? entry.playerID().toString() : name, entry.count()));
+                }
+            }
+            return scores;
+        }
+    }
+}
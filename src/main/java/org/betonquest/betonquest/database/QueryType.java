@@ -14,6 +14,17 @@ public enum QueryType {
     SELECT_JOURNAL(prefix -> "SELECT pointer, date FROM " + prefix + "journal WHERE profileID = ?;"),
     SELECT_BACKPACK(prefix -> "SELECT instruction, amount FROM " + prefix + "backpack WHERE profileID = ?;"),
     SELECT_PLAYER(prefix -> "SELECT language, conversation FROM " + prefix + "player WHERE playerID = ?;"),
+    /**
+     * Selects all data of a single profile in one round trip.
+     * Every row has a kind and the columns name, data, amount and date, depending on the kind.
+     * Requires the profileID six times.
+     */
+    SELECT_PROFILE_DATA(prefix -> "SELECT 'objective' AS kind, objective AS name, instructions AS data, NULL AS amount, NULL AS date FROM " + prefix + "objectives WHERE profileID = ?"
+            + " UNION ALL SELECT 'tag', tag, NULL, NULL, NULL FROM " + prefix + "tags WHERE profileID = ?"
+            + " UNION ALL SELECT 'point', category, NULL, count, NULL FROM " + prefix + "points WHERE profileID = ?"
+            + " UNION ALL SELECT 'journal', pointer, NULL, NULL, date FROM " + prefix + "journal WHERE profileID = ?"
+            + " UNION ALL SELECT 'backpack', NULL, instruction, amount, NULL FROM " + prefix + "backpack WHERE profileID = ?"
+            + " UNION ALL SELECT 'player', language, conversation, NULL, NULL FROM " + prefix + "player WHERE playerID = ?;"),
 
     SELECT_PLAYERS_TAGS(prefix -> "SELECT profileID FROM " + prefix + "tags GROUP BY profileID;"),
     SELECT_PLAYERS_JOURNAL(prefix -> "SELECT profileID FROM " + prefix + "journal GROUP BY profileID;"),
@@ -38,8 +49,7 @@ public enum QueryType {
     LOAD_ALL_GLOBAL_TAGS(prefix -> "SELECT * FROM " + prefix + "global_tags"),
     LOAD_ALL_GLOBAL_POINTS(prefix -> "SELECT * FROM " + prefix + "global_points"),
 
-    LOAD_TOP_X_POINTS_ASC(prefix -> "SELECT playerID,count FROM " + prefix + "points po join " + prefix + "player pl on po.profileID = pl.active_profile WHERE category = ? ORDER BY count ASC LIMIT ?;"),
-    LOAD_TOP_X_POINTS_DESC(prefix -> "SELECT playerID,count FROM " + prefix + "points po join " + prefix + "player pl on po.profileID = pl.active_profile WHERE category = ? ORDER BY count DESC LIMIT ?;");
+    LOAD_POINTS_OF_CATEGORY(prefix -> "SELECT playerID,count FROM " + prefix + "points po join " + prefix + "player pl on po.profileID = pl.active_profile WHERE category = ?;");
 
     /**
      * Function to create the SQL code from a prefix.
@@ -14,6 +14,18 @@ public class ConditionID extends ID {
         this.inverted = !identifier.isEmpty() && identifier.charAt(0) == '!';
     }
 
+    /**
+     * Gets the canonical ConditionID for an identifier, creating it only once until the next reload.
+     *
+     * @param pack       the package to resolve the identifier from
+     * @param identifier the identifier, potentially prefixed with a quest path
+     * @return the interned ConditionID
+     * @throws QuestException if the condition is not defined or could not be created
+     */
+    public static ConditionID of(@Nullable final QuestPackage pack, final String identifier) throws QuestException {
+        return IDCache.intern(ConditionID.class, pack, identifier, ConditionID::new);
+    }
+
     private static String removeExclamationMark(final String identifier) {
         if (!identifier.isEmpty() && identifier.charAt(0) == '!') {
             return identifier.substring(1);
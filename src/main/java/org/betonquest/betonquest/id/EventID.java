@@ -10,4 +10,16 @@ public class EventID extends ID {
     public EventID(@Nullable final QuestPackage pack, final String identifier) throws QuestException {
         super(pack, identifier, "events", "Event");
     }
+
+    /**
+     * Gets the canonical EventID for an identifier, creating it only once until the next reload.
+     *
+     * @param pack       the package to resolve the identifier from
+     * @param identifier the identifier, potentially prefixed with a quest path
+     * @return the interned EventID
+     * @throws QuestException if the event is not defined or could not be created
+     */
+    public static EventID of(@Nullable final QuestPackage pack, final String identifier) throws QuestException {
+        return IDCache.intern(EventID.class, pack, identifier, EventID::new);
+    }
 }
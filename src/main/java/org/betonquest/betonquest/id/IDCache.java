@@ -0,0 +1,67 @@
+package org.betonquest.betonquest.id;
+
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
+import org.betonquest.betonquest.api.quest.QuestException;
+import org.betonquest.betonquest.instruction.argument.IDArgument;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns {@link ID}s by their type, the package they are resolved from and their raw identifier.
+ * <p>
+ * Creating an ID resolves its package, reads its instruction and tokenizes it.
+ * Interned IDs are only created once until the cache is cleared on reload,
+ * so code resolving IDs at runtime gets the canonical, already tokenized instance.
+ * IDs that cannot be created are not cached.
+ */
+public final class IDCache {
+    /**
+     * The interned IDs.
+     */
+    private static final Map<Key, ID> CACHE = new ConcurrentHashMap<>();
+
+    private IDCache() {
+    }
+
+    /**
+     * Gets the interned ID or creates and interns it.
+     *
+     * @param type       the type of the ID
+     * @param pack       the package to resolve the identifier from
+     * @param identifier the raw identifier, potentially prefixed with a quest path
+     * @param factory    the factory creating the ID if it is not interned yet
+     * @param <T>        the type of the ID
+     * @return the canonical ID
+     * @throws QuestException if the ID could not be created
+     */
+    public static <T extends ID> T intern(final Class<T> type, @Nullable final QuestPackage pack, final String identifier,
+                                          final IDArgument<T> factory) throws QuestException {
+        final Key key = new Key(type, pack, identifier);
+        final ID cached = CACHE.get(key);
+        if (cached != null) {
+            return type.cast(cached);
+        }
+        final T created = factory.convert(pack, identifier);
+        final ID previous = CACHE.putIfAbsent(key, created);
+        return previous == null ? created : type.cast(previous);
+    }
+
+    /**
+     * Removes all interned IDs, so they are created again from the reloaded packages.
+     */
+    public static void clear() {
+        CACHE.clear();
+    }
+
+    /**
+     * Identifies an interned ID.
+     *
+     * @param type       the type of the ID
+     * @param pack       the package the identifier is resolved from
+     * @param identifier the raw identifier
+     */
+    private record Key(Class<?> type, @Nullable QuestPackage pack, String identifier) {
+    }
+}
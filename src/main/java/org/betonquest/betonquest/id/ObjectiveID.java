@@ -10,4 +10,16 @@ public class ObjectiveID extends ID {
     public ObjectiveID(@Nullable final QuestPackage pack, final String identifier) throws QuestException {
         super(pack, identifier, "objectives", "Objective");
     }
+
+    /**
+     * Gets the canonical ObjectiveID for an identifier, creating it only once until the next reload.
+     *
+     * @param pack       the package to resolve the identifier from
+     * @param identifier the identifier, potentially prefixed with a quest path
+     * @return the interned ObjectiveID
+     * @throws QuestException if the objective is not defined or could not be created
+     */
+    public static ObjectiveID of(@Nullable final QuestPackage pack, final String identifier) throws QuestException {
+        return IDCache.intern(ObjectiveID.class, pack, identifier, ObjectiveID::new);
+    }
 }
@@ -7,13 +7,14 @@ import org.betonquest.betonquest.api.quest.QuestException;
 import org.betonquest.betonquest.quest.registry.processor.VariableProcessor;
 import org.jetbrains.annotations.Nullable;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * Represent a variable that can be resolved in to given type.
@@ -27,11 +28,27 @@ public class Variable<T> {
      */
     private static final Pattern VARIABLE_PATTERN = Pattern.compile("(?<!\\\\)(?:\\\\\\\\)*(%((?:[^%\\\\]|\\\\.)*?)%)(?<!\\\\)(?:\\\\\\\\)*");
 
+    /**
+     * The expected length of a resolved variable, used to presize the resolved string.
+     */
+    private static final int PLACEHOLDER_CAPACITY = 8;
+
     /**
      * Supplier of the variable value.
      */
     private final ValueResolver<T> value;
 
+    /**
+     * If the input contains no variables and therefore always resolves to the same value.
+     */
+    private final boolean constant;
+
+    /**
+     * The last resolved string and its converted value, if the value is immutable.
+     */
+    @Nullable
+    private volatile Resolved<T> lastResolved;
+
     /**
      * Resolves a string that may contain variables to a variable of the given type.
      *
@@ -43,58 +60,78 @@ public class Variable<T> {
      */
     public Variable(final VariableProcessor variableProcessor, @Nullable final QuestPackage pack, final String input,
                     final QuestFunction<String, T> resolver) throws QuestException {
-        final Map<String, org.betonquest.betonquest.api.Variable> variables = getVariables(variableProcessor, pack, input);
-        if (variables.isEmpty()) {
+        final List<Segment> segments = compile(variableProcessor, pack, input);
+        constant = segments.stream().allMatch(Literal.class::isInstance);
+        if (constant) {
             final T resolved = resolver.apply(input);
             value = profile -> resolved;
         } else {
-            value = profile -> resolver.apply(getString(input, variables, profile));
+            final Segment[] compiled = segments.toArray(new Segment[0]);
+            final int literalLength = segments.stream().mapToInt(Segment::length).sum();
+            value = profile -> convert(resolver, getString(compiled, literalLength, profile));
         }
     }
 
-    private Map<String, org.betonquest.betonquest.api.Variable> getVariables(final VariableProcessor variableProcessor,
-                                                                             @Nullable final QuestPackage pack,
-                                                                             final String input)
-            throws QuestException {
+    private static List<Segment> compile(final VariableProcessor variableProcessor, @Nullable final QuestPackage pack,
+                                         final String input) throws QuestException {
         final Map<String, org.betonquest.betonquest.api.Variable> variables = new HashMap<>();
-        for (final String variable : resolveVariables(input)) {
-            try {
-                final org.betonquest.betonquest.api.Variable variable1 = variableProcessor.create(pack, replaceEscapedPercent(variable));
-                variables.put(variable, variable1);
-            } catch (final QuestException exception) {
-                throw new QuestException("Could not create variable '" + variable + "': "
-                        + exception.getMessage(), exception);
-            }
-        }
-        return variables;
-    }
-
-    private Set<String> resolveVariables(final String input) {
-        return VARIABLE_PATTERN.matcher(input).results()
-                .map(MatchResult::group)
-                .collect(Collectors.toSet());
-    }
-
-    private String getString(final String input, final Map<String, org.betonquest.betonquest.api.Variable> variables,
-                             @Nullable final Profile profile) throws QuestException {
+        final List<Segment> segments = new ArrayList<>();
         final Matcher matcher = VARIABLE_PATTERN.matcher(input);
-        final StringBuilder resolvedString = new StringBuilder();
+        int literalStart = 0;
         while (matcher.find()) {
+            if (matcher.start() > literalStart) {
+                segments.add(new Literal(input.substring(literalStart, matcher.start())));
+            }
             final String variable = matcher.group();
-            final org.betonquest.betonquest.api.Variable resolvedVariable = variables.get(variable);
-            if (resolvedVariable == null) {
-                throw new QuestException("Could not resolve variable '" + variable + "'");
+            org.betonquest.betonquest.api.Variable created = variables.get(variable);
+            if (created == null) {
+                try {
+                    created = variableProcessor.create(pack, replaceEscapedPercent(variable));
+                } catch (final QuestException exception) {
+                    throw new QuestException("Could not create variable '" + variable + "': "
+                            + exception.getMessage(), exception);
+                }
+                variables.put(variable, created);
             }
-            matcher.appendReplacement(resolvedString, Matcher.quoteReplacement(resolvedVariable.getValue(profile)));
+            segments.add(new Placeholder(created));
+            literalStart = matcher.end();
+        }
+        if (literalStart < input.length()) {
+            segments.add(new Literal(input.substring(literalStart)));
+        }
+        return segments;
+    }
+
+    private static String getString(final Segment[] segments, final int literalLength, @Nullable final Profile profile) {
+        final StringBuilder resolvedString = new StringBuilder(literalLength + PLACEHOLDER_CAPACITY * segments.length);
+        for (final Segment segment : segments) {
+            resolvedString.append(segment.resolve(profile));
         }
-        matcher.appendTail(resolvedString);
         return resolvedString.toString();
     }
 
-    private String replaceEscapedPercent(final String input) {
+    private static String replaceEscapedPercent(final String input) {
         return input.replaceAll("(?<!\\\\)\\\\%", "%");
     }
 
+    private static boolean isImmutable(final Object value) {
+        return value instanceof String || value instanceof Boolean || value instanceof Enum<?>
+                || value instanceof Integer || value instanceof Long || value instanceof Double || value instanceof Float
+                || value instanceof Short || value instanceof Byte || value instanceof BigDecimal || value instanceof BigInteger;
+    }
+
+    private T convert(final QuestFunction<String, T> resolver, final String resolvedString) throws QuestException {
+        final Resolved<T> last = lastResolved;
+        if (last != null && last.input().equals(resolvedString)) {
+            return last.value();
+        }
+        final T converted = resolver.apply(resolvedString);
+        if (isImmutable(converted)) {
+            lastResolved = new Resolved<>(resolvedString, converted);
+        }
+        return converted;
+    }
+
     /**
      * Gets the value of the variable.
      *
@@ -106,6 +143,15 @@ public class Variable<T> {
         return value.apply(profile);
     }
 
+    /**
+     * Checks if the variable always resolves to the same value, independent of the profile and time.
+     *
+     * @return true if the input contains no variables
+     */
+    public boolean isConstant() {
+        return constant;
+    }
+
     /**
      * Resolves the value of the variable with a Nullable Profile.
      *
@@ -117,6 +163,70 @@ public class Variable<T> {
         T apply(@Nullable Profile arg) throws QuestException;
     }
 
+    /**
+     * A part of the compiled input.
+     */
+    private sealed interface Segment permits Literal, Placeholder {
+        /**
+         * Resolves this part.
+         *
+         * @param profile the profile to resolve the part for
+         * @return the resolved part
+         */
+        String resolve(@Nullable Profile profile);
+
+        /**
+         * Gets the known length of this part.
+         *
+         * @return the length of the literal text or zero for variables
+         */
+        int length();
+    }
+
+    /**
+     * Literal text between variables.
+     *
+     * @param text the text
+     */
+    private record Literal(String text) implements Segment {
+        @Override
+        public String resolve(@Nullable final Profile profile) {
+            return text;
+        }
+
+        @Override
+        public int length() {
+            return text.length();
+        }
+    }
+
+    /**
+     * A variable in the input.
+     *
+     * @param variable the variable resolving the value
+     */
+    private record Placeholder(org.betonquest.betonquest.api.Variable variable) implements Segment {
+        @Override
+        public String resolve(@Nullable final Profile profile) {
+            return variable.getValue(profile);
+        }
+
+        @Override
+        public int length() {
+            return 0;
+        }
+    }
+
+    /**
+     * A resolved string and the value it was converted to.
+     *
+     * @param input the resolved string
+     * @param value the converted value
+     * @param <T>   the type of the value
+     */
+    private record Resolved<T>(String input, T value) {
+    }
+
     /**
      * Checks if the value of the variable is valid.
      * <p>
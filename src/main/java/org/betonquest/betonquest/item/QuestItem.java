@@ -21,15 +21,18 @@ import org.betonquest.betonquest.item.typehandler.UnbreakableHandler;
 import org.betonquest.betonquest.util.BlockSelector;
 import org.betonquest.betonquest.util.Utils;
 import org.bukkit.Material;
+import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents an item handled by the configuration.
@@ -78,6 +81,18 @@ public class QuestItem {
             durability, name, lore, enchants, book, potion,
             color, head, firework, unbreakable, customModelData, flags);
 
+    /**
+     * Handler in the order of {@link #compare(ItemStack)}, cheap checks first.
+     */
+    private final List<ItemMetaHandler<? extends ItemMeta>> orderedCompare = List.of(
+            durability, customModelData, unbreakable, flags, name, lore,
+            enchants, potion, book, head, color, firework);
+
+    /**
+     * The result of comparing stacks without item meta, which only depends on their material.
+     */
+    private final Map<Material, Boolean> plainMatches = new ConcurrentHashMap<>();
+
     /**
      * Creates new instance of the quest item using the ID.
      *
@@ -190,29 +205,79 @@ public class QuestItem {
 
     /**
      * Compares ItemStack to the quest item.
+     * <p>
+     * Stacks of another material are rejected before their meta is cloned.
+     * Stacks without meta are compared once per material.
      *
      * @param item ItemStack to compare
      * @return true if the item matches
      */
     public boolean compare(@Nullable final ItemStack item) {
-        // basic item checks
-        if (item == null) {
+        if (item == null || !selector.match(item.getType())) {
             return false;
         }
-        if (!selector.match(item.getType())) {
-            return false;
+        if (!item.hasItemMeta()) {
+            return comparePlain(item);
         }
-        // basic meta checks
-        final ItemMeta meta = item.getItemMeta();
-        if (meta == null) {
-            return true;
+        return compareMeta(item.getItemMeta());
+    }
+
+    /**
+     * Counts the items matching each of the quest items, cloning the meta of each stack at most once.
+     *
+     * @param inventory the inventory to scan
+     * @param items     the quest items to count
+     * @return the amount of matching items, in the order of the quest items
+     */
+    public static int[] countMatching(final Inventory inventory, final List<QuestItem> items) {
+        return countMatching(Arrays.asList(inventory.getContents()), items);
+    }
+
+    /**
+     * Counts the items matching each of the quest items, cloning the meta of each stack at most once.
+     *
+     * @param stacks the stacks to scan, may contain null
+     * @param items  the quest items to count
+     * @return the amount of matching items, in the order of the quest items
+     */
+    public static int[] countMatching(final Iterable<ItemStack> stacks, final List<QuestItem> items) {
+        final int[] amounts = new int[items.size()];
+        for (final ItemStack stack : stacks) {
+            if (stack == null) {
+                continue;
+            }
+            final boolean hasMeta = stack.hasItemMeta();
+            ItemMeta meta = null;
+            for (int i = 0; i < amounts.length; i++) {
+                final QuestItem questItem = items.get(i);
+                if (!questItem.selector.match(stack.getType())) {
+                    continue;
+                }
+                final boolean matches;
+                if (hasMeta) {
+                    if (meta == null) {
+                        meta = stack.getItemMeta();
+                    }
+                    matches = questItem.compareMeta(meta);
+                } else {
+                    matches = questItem.comparePlain(stack);
+                }
+                if (matches) {
+                    amounts[i] += stack.getAmount();
+                }
+            }
         }
+        return amounts;
+    }
 
-        final List<ItemMetaHandler<? extends ItemMeta>> orderedCompare = List.of(
-                durability, customModelData, unbreakable, flags, name, lore,
-                enchants, potion, book, head, color, firework
-        );
+    private boolean comparePlain(final ItemStack item) {
+        return plainMatches.computeIfAbsent(item.getType(), material -> compareMeta(item.getItemMeta()));
+    }
 
+    private boolean compareMeta(@Nullable final ItemMeta meta) {
+        if (meta == null) {
+            return true;
+        }
         for (final ItemMetaHandler<? extends ItemMeta> handler : orderedCompare) {
             if (!handler.rawCheck(meta)) {
                 return false;
@@ -77,6 +77,7 @@ public class DebugHandlerConfig {
             config.set(CONFIG_ENABLED_PATH, debugging);
             config.save();
         }
+        DebugLogState.setDebugging(debugging);
     }
 
     /**
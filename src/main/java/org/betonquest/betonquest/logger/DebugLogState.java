@@ -0,0 +1,88 @@
+package org.betonquest.betonquest.logger;
+
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+/**
+ * Tracks if debug {@link LogRecord}s are consumed by any {@link Handler}, so they are only created if needed.
+ * <p>
+ * Debug records are consumed while debugging is enabled, while a history of records is kept
+ * and while a player watches the log on the debug level.
+ * Until the handlers are configured, all debug records are considered consumed.
+ */
+final class DebugLogState {
+    /**
+     * If the state was configured by the handlers.
+     */
+    private static volatile boolean configured;
+
+    /**
+     * If debugging is enabled.
+     */
+    private static volatile boolean debugging;
+
+    /**
+     * If a history of records is kept while debugging is disabled.
+     */
+    private static volatile boolean history;
+
+    /**
+     * If a player watches the log on the debug level.
+     */
+    private static volatile boolean watched;
+
+    /**
+     * If debug records are consumed, derived from the other states.
+     */
+    private static volatile boolean consumed = true;
+
+    private DebugLogState() {
+        // Empty
+    }
+
+    /**
+     * Checks if debug records are consumed by any handler.
+     *
+     * @return true if debug records are consumed; false otherwise
+     */
+    /* default */ static boolean isConsumed() {
+        return consumed;
+    }
+
+    /**
+     * Configures the state of the debug handler.
+     *
+     * @param debugging if debugging is enabled
+     * @param history   if a history of records is kept while debugging is disabled
+     */
+    /* default */ static void configure(final boolean debugging, final boolean history) {
+        DebugLogState.debugging = debugging;
+        DebugLogState.history = history;
+        configured = true;
+        update();
+    }
+
+    /**
+     * Sets if debugging is enabled.
+     *
+     * @param debugging if debugging is enabled
+     */
+    /* default */ static void setDebugging(final boolean debugging) {
+        DebugLogState.debugging = debugging;
+        update();
+    }
+
+    /**
+     * Sets if a player watches the log on the debug level.
+     *
+     * @param watched if a player watches the debug level
+     */
+    /* default */ static void setWatched(final boolean watched) {
+        DebugLogState.watched = watched;
+        update();
+    }
+
+    private static void update() {
+        consumed = !configured || debugging || history || watched;
+    }
+}
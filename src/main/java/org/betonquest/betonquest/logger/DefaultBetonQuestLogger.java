@@ -44,6 +44,9 @@ public class DefaultBetonQuestLogger implements BetonQuestLogger {
 
     @Override
     public void debug(@Nullable final QuestPackage pack, @Nullable final String msg) {
+        if (!isDebugEnabled(pack)) {
+            return;
+        }
         final BetonQuestLogRecord record = new BetonQuestLogRecord(Level.FINE, msg, plugin, pack);
         logger.log(record);
     }
@@ -55,11 +58,19 @@ public class DefaultBetonQuestLogger implements BetonQuestLogger {
 
     @Override
     public void debug(@Nullable final QuestPackage pack, @Nullable final String msg, final Throwable thrown) {
+        if (!isDebugEnabled(pack)) {
+            return;
+        }
         final BetonQuestLogRecord record = new BetonQuestLogRecord(Level.FINE, msg, plugin, pack);
         record.setThrown(thrown);
         logger.log(record);
     }
 
+    @Override
+    public boolean isDebugEnabled(@Nullable final QuestPackage pack) {
+        return DebugLogState.isConsumed();
+    }
+
     @Override
     public void info(final String msg) {
         info(null, msg);
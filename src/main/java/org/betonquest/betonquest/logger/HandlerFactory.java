@@ -7,6 +7,7 @@ import org.betonquest.betonquest.api.logger.BetonQuestLoggerFactory;
 import org.betonquest.betonquest.logger.filter.LogRecordTypeFilter;
 import org.betonquest.betonquest.logger.format.ChatFormatter;
 import org.betonquest.betonquest.logger.format.LogfileFormatter;
+import org.betonquest.betonquest.logger.handler.AsyncFileHandler;
 import org.betonquest.betonquest.logger.handler.LazyHandler;
 import org.betonquest.betonquest.logger.handler.ResettableHandler;
 import org.betonquest.betonquest.logger.handler.chat.ChatHandler;
@@ -29,7 +30,6 @@ import java.time.Instant;
 import java.time.InstantSource;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
-import java.util.logging.FileHandler;
 import java.util.logging.Handler;
 
 /**
@@ -37,6 +37,16 @@ import java.util.logging.Handler;
  */
 @SuppressWarnings("PMD.CouplingBetweenObjects")
 public final class HandlerFactory {
+    /**
+     * The size in bytes after which the debug log file is rotated.
+     */
+    private static final long MAX_LOG_FILE_SIZE = 32L * 1024 * 1024;
+
+    /**
+     * The amount of records buffered for the debug log file before further records are dropped.
+     */
+    private static final int LOG_BUFFER_CAPACITY = 16_384;
+
     private HandlerFactory() {
         // Empty
     }
@@ -69,10 +79,12 @@ public final class HandlerFactory {
      */
     public static HistoryHandler createHistoryHandler(final BetonQuestLoggerFactory loggerFactory, final Plugin plugin, final BukkitScheduler scheduler, final ConfigurationFile config, final File logFileFolder, final InstantSource instantSource) {
         final DebugHandlerConfig debugHandlerConfig = new DebugHandlerConfig(config, logFileFolder);
-        final LogRecordQueue logQueue = createLogRecordQueue(plugin, scheduler, instantSource, debugHandlerConfig.getExpireAfterMinutes());
+        final int expireAfterMinutes = debugHandlerConfig.getExpireAfterMinutes();
+        final LogRecordQueue logQueue = createLogRecordQueue(plugin, scheduler, instantSource, expireAfterMinutes);
         final ResettableHandler targetHandler = createDebugLogFileHandler(loggerFactory, debugHandlerConfig.getLogFile(), instantSource);
         final HistoryHandler historyHandler = new HistoryHandler(debugHandlerConfig.isDebugging(), debugHandlerConfig::setDebugging, logQueue, targetHandler);
         historyHandler.setFilter(new LogRecordTypeFilter(BetonQuestLogRecord.class));
+        DebugLogState.configure(historyHandler.isLogging(), expireAfterMinutes != 0);
         return historyHandler;
     }
 
@@ -93,8 +105,8 @@ public final class HandlerFactory {
 
     private static Handler setupFileHandler(final File logFile, final InstantSource instantSource) throws IOException {
         try {
-            renameLogFile(logFile, instantSource);
-            final FileHandler fileHandler = new FileHandler(logFile.getAbsolutePath());
+            final AsyncFileHandler fileHandler = new AsyncFileHandler(logFile, () -> renameLogFile(logFile, instantSource),
+                    MAX_LOG_FILE_SIZE, LOG_BUFFER_CAPACITY);
             fileHandler.setFormatter(new LogfileFormatter());
             return fileHandler;
         } catch (final IOException e) {
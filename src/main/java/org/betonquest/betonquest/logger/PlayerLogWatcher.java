@@ -8,6 +8,7 @@ import org.betonquest.betonquest.logger.handler.chat.RecordReceiverSelector;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 import java.util.logging.Level;
@@ -27,6 +28,11 @@ public class PlayerLogWatcher {
      */
     private final ReceiverSelectorRegistry selectorRegistry;
 
+    /**
+     * Active selectors that include the debug level.
+     */
+    private final Set<RecordReceiverSelector> debugSelectors;
+
     /**
      * Create a facade for the given {@link ReceiverSelectorRegistry}. Please be aware that the facade assumes that it
      * has full and sole control over the registry and that the registry is provided empty.
@@ -35,6 +41,7 @@ public class PlayerLogWatcher {
      */
     public PlayerLogWatcher(final ReceiverSelectorRegistry selectorRegistry) {
         activeSelectors = HashBasedTable.create();
+        debugSelectors = new HashSet<>();
         this.selectorRegistry = selectorRegistry;
     }
 
@@ -85,8 +92,12 @@ public class PlayerLogWatcher {
         final PlayerPackageReceiverSelector newSelector = new PlayerPackageReceiverSelector(
                 Collections.singleton(subject), minimumLevel, packagePattern);
         selectorRegistry.addSelector(newSelector);
+        if (minimumLevel.intValue() <= Level.FINE.intValue()) {
+            debugSelectors.add(newSelector);
+        }
         final RecordReceiverSelector oldSelector = activeSelectors.put(subject, packagePattern, newSelector);
         unregisterSelector(oldSelector);
+        DebugLogState.setWatched(!debugSelectors.isEmpty());
     }
 
     /**
@@ -104,6 +115,8 @@ public class PlayerLogWatcher {
     private void unregisterSelector(@Nullable final RecordReceiverSelector oldSelector) {
         if (oldSelector != null) {
             selectorRegistry.removeSelector(oldSelector);
+            debugSelectors.remove(oldSelector);
+            DebugLogState.setWatched(!debugSelectors.isEmpty());
         }
     }
 }
@@ -0,0 +1,348 @@
+package org.betonquest.betonquest.logger.handler;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+/**
+ * {@link Handler} that writes {@link LogRecord}s to a file on a background thread.
+ * <p>
+ * Publishing a record only puts it into a bounded lock-free ring buffer, so the logging thread never waits for
+ * formatting or I/O. If the buffer is full the record is dropped and counted; the amount of dropped records is
+ * written to the file once there is space again. The writer thread formats the records, writes them through a
+ * buffer and flushes it whenever the ring buffer is drained. The file is rotated once it exceeds its maximum size.
+ */
+@SuppressWarnings("PMD.DoNotUseThreads")
+public class AsyncFileHandler extends Handler {
+    /**
+     * The time the writer thread sleeps if there are no records to write.
+     */
+    private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    /**
+     * The time to wait for the writer thread to write the remaining records while closing.
+     */
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+    /**
+     * The size of the output buffer in bytes.
+     */
+    private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The file to write to.
+     */
+    private final File logFile;
+
+    /**
+     * The rotation that moves the current file away and creates a new empty file.
+     */
+    private final FileRotation rotation;
+
+    /**
+     * The size in bytes after which the file is rotated.
+     */
+    private final long maxFileSize;
+
+    /**
+     * The ring buffer slots, a null slot is free or not yet published.
+     */
+    private final AtomicReferenceArray<LogRecord> slots;
+
+    /**
+     * The mask to get the slot of a sequence number.
+     */
+    private final int mask;
+
+    /**
+     * The sequence number of the next slot to claim by a publishing thread.
+     */
+    private final AtomicLong tail;
+
+    /**
+     * The sequence number of the next slot to write, only advanced by the writer thread.
+     */
+    private final AtomicLong head;
+
+    /**
+     * The amount of records dropped since it was last written to the file.
+     */
+    private final AtomicLong dropped;
+
+    /**
+     * The amount of records dropped since this handler was created.
+     */
+    private final AtomicLong droppedTotal;
+
+    /**
+     * The buffer for the output, only used by the writer thread.
+     */
+    private final ByteBuffer output;
+
+    /**
+     * The thread writing the records.
+     */
+    private final Thread writer;
+
+    /**
+     * The channel of the file, only used by the writer thread after creation.
+     */
+    private FileChannel channel;
+
+    /**
+     * The amount of bytes written to the current file.
+     */
+    private long fileSize;
+
+    /**
+     * If a flush of the written records was requested.
+     */
+    private volatile boolean flushRequested;
+
+    /**
+     * If this handler was closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Create a new {@link AsyncFileHandler} and start its writer thread.
+     * The rotation is called once before the file is opened.
+     *
+     * @param logFile     the file to write to
+     * @param rotation    the rotation that moves the current file away and creates a new empty file
+     * @param maxFileSize the size in bytes after which the file is rotated
+     * @param capacity    the amount of records the ring buffer can hold, rounded up to the next power of two
+     * @throws IOException if the file cannot be rotated or opened
+     */
+    public AsyncFileHandler(final File logFile, final FileRotation rotation, final long maxFileSize, final int capacity)
+            throws IOException {
+        super();
+        this.logFile = logFile;
+        this.rotation = rotation;
+        this.maxFileSize = maxFileSize;
+        final int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.tail = new AtomicLong();
+        this.head = new AtomicLong();
+        this.dropped = new AtomicLong();
+        this.droppedTotal = new AtomicLong();
+        this.output = ByteBuffer.allocate(OUTPUT_BUFFER_SIZE);
+        rotation.rotate();
+        this.channel = open(logFile);
+        this.writer = new Thread(this::runWriter, "BetonQuest Debug Log Writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    private static FileChannel open(final File logFile) throws IOException {
+        return FileChannel.open(logFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public void publish(final LogRecord record) {
+        if (closed || !isLoggable(record)) {
+            return;
+        }
+        long sequence;
+        long used;
+        do {
+            sequence = tail.get();
+            used = sequence - head.get();
+            if (used >= slots.length()) {
+                dropped.incrementAndGet();
+                droppedTotal.incrementAndGet();
+                return;
+            }
+        } while (!tail.compareAndSet(sequence, sequence + 1));
+        slots.set((int) sequence & mask, record);
+        if (used == slots.length() >> 1) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * Requests the writer thread to flush all written records to the file.
+     */
+    @Override
+    public void flush() {
+        flushRequested = true;
+        LockSupport.unpark(writer);
+    }
+
+    /**
+     * Closes this handler after the writer thread has written all published records.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Gets the amount of records that were dropped because the ring buffer was full.
+     *
+     * @return the amount of dropped records since this handler was created
+     */
+    public long getDroppedRecords() {
+        return droppedTotal.get();
+    }
+
+    private void runWriter() {
+        while (true) {
+            final boolean stopping = closed;
+            final boolean wroteRecords = drain();
+            if (wroteRecords || flushRequested || stopping) {
+                flushRequested = false;
+                flushOutput();
+            }
+            if (stopping) {
+                break;
+            }
+            if (!wroteRecords) {
+                LockSupport.parkNanos(this, IDLE_NANOS);
+            }
+        }
+        closeChannel();
+    }
+
+    private boolean drain() {
+        boolean wroteRecords = false;
+        long sequence = head.get();
+        while (true) {
+            final int slot = (int) sequence & mask;
+            final LogRecord record = slots.get(slot);
+            if (record == null) {
+                break;
+            }
+            slots.set(slot, null);
+            sequence++;
+            head.set(sequence);
+            write(record);
+            wroteRecords = true;
+        }
+        final long droppedRecords = dropped.getAndSet(0);
+        if (droppedRecords > 0) {
+            write(droppedRecords + " log records were dropped because the debug log could not be written fast enough."
+                    + System.lineSeparator());
+            wroteRecords = true;
+        }
+        return wroteRecords;
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void write(final LogRecord record) {
+        final Formatter formatter = getFormatter();
+        final String text;
+        try {
+            text = formatter == null ? record.getMessage() + System.lineSeparator() : formatter.format(record);
+        } catch (final RuntimeException e) {
+            reportError(null, e, ErrorManager.FORMAT_FAILURE);
+            return;
+        }
+        write(text);
+    }
+
+    private void write(@Nullable final String text) {
+        if (text == null || text.isEmpty() || !channel.isOpen()) {
+            return;
+        }
+        final ByteBuffer bytes = StandardCharsets.UTF_8.encode(text);
+        final int length = bytes.remaining();
+        if (bytes.remaining() > output.remaining()) {
+            flushOutput();
+        }
+        try {
+            if (bytes.remaining() > output.capacity()) {
+                writeFully(bytes);
+            } else {
+                output.put(bytes);
+            }
+        } catch (final IOException e) {
+            reportError(null, e, ErrorManager.WRITE_FAILURE);
+            return;
+        }
+        fileSize += length;
+        if (fileSize >= maxFileSize) {
+            rotate();
+        }
+    }
+
+    private void flushOutput() {
+        if (!channel.isOpen()) {
+            output.clear();
+            return;
+        }
+        output.flip();
+        try {
+            writeFully(output);
+        } catch (final IOException e) {
+            reportError(null, e, ErrorManager.FLUSH_FAILURE);
+        } finally {
+            output.clear();
+        }
+    }
+
+    private void writeFully(final ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+
+    private void rotate() {
+        flushOutput();
+        closeChannel();
+        try {
+            rotation.rotate();
+            channel = open(logFile);
+            fileSize = 0;
+        } catch (final IOException e) {
+            reportError("Could not rotate the log file '" + logFile.getName() + "'!", e, ErrorManager.OPEN_FAILURE);
+            closed = true;
+        }
+    }
+
+    private void closeChannel() {
+        try {
+            channel.close();
+        } catch (final IOException e) {
+            reportError(null, e, ErrorManager.CLOSE_FAILURE);
+        }
+    }
+
+    /**
+     * Functional interface to move the current log file away and create a new empty one.
+     */
+    @FunctionalInterface
+    public interface FileRotation {
+
+        /**
+         * Moves the current log file away and creates a new empty one.
+         *
+         * @throws IOException if an I/O error occurs
+         */
+        void rotate() throws IOException;
+    }
+}
@@ -158,7 +158,7 @@ public abstract class SimpleYMLSection {
      * @throws Invalid if one of the events can't be found
      */
     protected final List<EventID> getEvents(final String key, final QuestPackage pack) throws Invalid {
-        return getID(key, pack, EventID::new);
+        return getID(key, pack, EventID::of);
     }
 
     /**
@@ -170,7 +170,7 @@ public abstract class SimpleYMLSection {
      * @throws Invalid if one of the conditions can't be found
      */
     protected final List<ConditionID> getConditions(final String key, final QuestPackage pack) throws Invalid {
-        return getID(key, pack, ConditionID::new);
+        return getID(key, pack, ConditionID::of);
     }
 
     private <T extends ID> List<T> getID(final String key, final QuestPackage pack, final IDArgument<T> argument) throws Invalid {
@@ -12,12 +12,14 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 @SuppressWarnings("PMD.CommentRequired")
 public final class Notify {
@@ -28,6 +30,11 @@ public final class Notify {
 
     private static final Map<String, Map<String, String>> CATEGORY_SETTINGS = new HashMap<>();
 
+    /**
+     * The resolved {@link NotifyIO}s by their package, category and data, cleared when the settings are loaded.
+     */
+    private static final Map<CacheKey, NotifyIO> NOTIFY_IOS = new ConcurrentHashMap<>();
+
     @Nullable
     private static String defaultNotifyIO;
 
@@ -42,6 +49,7 @@ public final class Notify {
     public static void load(final ConfigurationFile config) {
         loadCategorySettings();
         defaultNotifyIO = config.getString("default_notify_IO");
+        NOTIFY_IOS.clear();
     }
 
     public static NotifyIO get(@Nullable final QuestPackage pack) {
@@ -56,7 +64,26 @@ public final class Notify {
         return get(pack, null, data);
     }
 
+    /**
+     * Gets the {@link NotifyIO} for a category, resolving it only once until the settings are loaded again.
+     *
+     * @param pack     the package to resolve variables in
+     * @param category the comma separated categories or null for the default category
+     * @param data     the data overriding the category settings or null
+     * @return the resolved NotifyIO
+     */
     public static NotifyIO get(@Nullable final QuestPackage pack, @Nullable final String category, @Nullable final Map<String, String> data) {
+        final NotifyIO cached = NOTIFY_IOS.get(new CacheKey(pack, category, data));
+        if (cached != null) {
+            return cached;
+        }
+        final Map<String, String> dataCopy = data == null ? null : Collections.unmodifiableMap(new HashMap<>(data));
+        final NotifyIO created = create(pack, category, dataCopy);
+        final NotifyIO previous = NOTIFY_IOS.putIfAbsent(new CacheKey(pack, category, dataCopy), created);
+        return previous == null ? created : previous;
+    }
+
+    private static NotifyIO create(@Nullable final QuestPackage pack, @Nullable final String category, @Nullable final Map<String, String> data) {
         final SortedSet<String> categories = getCategories(category);
 
         final Map<String, String> categoryData = getCategorySettings(categories);
@@ -149,4 +176,14 @@ public final class Notify {
         CATEGORY_SETTINGS.clear();
         CATEGORY_SETTINGS.putAll(settings);
     }
+
+    /**
+     * Identifies a resolved {@link NotifyIO}.
+     *
+     * @param pack     the package to resolve variables in
+     * @param category the comma separated categories
+     * @param data     the data overriding the category settings
+     */
+    private record CacheKey(@Nullable QuestPackage pack, @Nullable String category, @Nullable Map<String, String> data) {
+    }
 }
@@ -7,33 +7,22 @@ import org.betonquest.betonquest.api.quest.QuestException;
 import org.betonquest.betonquest.instruction.Instruction;
 import org.betonquest.betonquest.util.PlayerConverter;
 import org.bukkit.Location;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
-import org.bukkit.event.entity.PlayerDeathEvent;
-import org.bukkit.event.player.PlayerJoinEvent;
-import org.bukkit.event.player.PlayerMoveEvent;
-import org.bukkit.event.player.PlayerQuitEvent;
-import org.bukkit.event.player.PlayerRespawnEvent;
-import org.bukkit.event.player.PlayerTeleportEvent;
-import org.bukkit.event.vehicle.VehicleMoveEvent;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * The AbstractLocationObjective class extends the Objective class and implements the Listener interface
+ * The AbstractLocationObjective class extends the Objective class
  * to handle all movements of players in the game.
  * This abstract class serves as a base for objectives that are completed
  * when a player enters or exits a specific location.
- * It listens for various player events such as join, quit, death, respawn, teleport, and movement
- * to check the player's location.
+ * The movements are dispatched by the shared {@link LocationObjectiveIndex} while the objective is started.
  */
-public abstract class AbstractLocationObjective extends Objective implements Listener {
+public abstract class AbstractLocationObjective extends Objective {
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
      */
@@ -70,82 +59,44 @@ public abstract class AbstractLocationObjective extends Objective implements Lis
         playersInsideRegion = new HashMap<>();
     }
 
-    /**
-     * The onPlayerJoin method listens for the PlayerJoinEvent and checks the player's location.
-     *
-     * @param event the PlayerJoinEvent to be used in the method
-     */
-    @EventHandler(ignoreCancelled = true)
-    public void onPlayerJoin(final PlayerJoinEvent event) {
-        checkLocation(event.getPlayer(), event.getPlayer().getLocation());
-    }
-
-    /**
-     * The onPlayerQuit method listens for the PlayerQuitEvent and removes the player from the playersInsideRegion map.
-     *
-     * @param event the PlayerQuitEvent to be used in the method
-     */
-    @EventHandler(ignoreCancelled = true)
-    public void onPlayerQuit(final PlayerQuitEvent event) {
-        playersInsideRegion.remove(PlayerConverter.getID(event.getPlayer()).getProfileUUID());
-    }
-
-    /**
-     * The onPlayerDeath method listens for the PlayerDeathEvent and checks the player's location.
-     *
-     * @param event the PlayerDeathEvent to be used in the method
-     */
-    @EventHandler(ignoreCancelled = true)
-    public void onPlayerDeath(final PlayerDeathEvent event) {
-        checkLocation(event.getEntity(), event.getEntity().getLocation());
+    @Override
+    public void start() {
+        LocationObjectiveIndex.register(this, getStaticArea());
     }
 
-    /**
-     * The onPlayerRespawn method listens for the PlayerRespawnEvent and checks the player's location.
-     *
-     * @param event the PlayerRespawnEvent to be used in the method
-     */
-    @EventHandler(ignoreCancelled = true)
-    public void onPlayerRespawn(final PlayerRespawnEvent event) {
-        checkLocation(event.getPlayer(), event.getRespawnLocation());
+    @Override
+    public void stop() {
+        LocationObjectiveIndex.unregister(this);
     }
 
     /**
-     * The onPlayerTeleport method listens for the PlayerTeleportEvent and checks the player's location.
+     * Gets the area outside of which this objective can never be completed, if it never changes.
+     * Objectives with a static area are only checked for players moving in or near that area.
      *
-     * @param event the PlayerTeleportEvent to be used in the method
+     * @return the static area or null if the area depends on the player or can change
      */
-    @EventHandler(ignoreCancelled = true)
-    public void onPlayerTeleport(final PlayerTeleportEvent event) {
-        onPlayerMove(event);
+    @Nullable
+    protected LocationObjectiveIndex.Area getStaticArea() {
+        return null;
     }
 
     /**
-     * The onPlayerMove method listens for the PlayerMoveEvent and checks the player's location.
+     * Removes the stored state of a player.
      *
-     * @param event the PlayerMoveEvent to be used in the method
+     * @param player the player that left
      */
-    @EventHandler(ignoreCancelled = true)
-    public void onPlayerMove(final PlayerMoveEvent event) {
-        checkLocation(event.getPlayer(), event.getTo());
+    /* default */ void removePlayer(final Player player) {
+        playersInsideRegion.remove(player.getUniqueId());
     }
 
     /**
-     * The onVehicleMove method listens for the VehicleMoveEvent and checks the player's location.
+     * Checks the new location of a player.
      *
-     * @param event the VehicleMoveEvent to be used in the method
+     * @param player   the player that moved
+     * @param from     the previous location of the player or null if unknown
+     * @param location the new location of the player
      */
-    @EventHandler(ignoreCancelled = true)
-    public void onVehicleMove(final VehicleMoveEvent event) {
-        final List<Entity> passengers = event.getVehicle().getPassengers();
-        for (final Entity passenger : passengers) {
-            if (passenger instanceof final Player player) {
-                checkLocation(player, event.getTo());
-            }
-        }
-    }
-
-    private void checkLocation(final Player player, final Location location) {
+    /* default */ void checkLocation(final Player player, @Nullable final Location from, final Location location) {
         final OnlineProfile onlineProfile = PlayerConverter.getID(player);
         if (!containsPlayer(onlineProfile)) {
             return;
@@ -159,16 +110,17 @@ public abstract class AbstractLocationObjective extends Objective implements Lis
             return;
         }
 
-        checkLocationEnterExit(onlineProfile, toInside);
+        checkLocationEnterExit(onlineProfile, from, toInside);
     }
 
-    private void checkLocationEnterExit(final OnlineProfile onlineProfile, final boolean toInside) {
-        if (!playersInsideRegion.containsKey(onlineProfile.getProfileUUID())) {
+    private void checkLocationEnterExit(final OnlineProfile onlineProfile, @Nullable final Location from, final boolean toInside) {
+        final Boolean previous = playersInsideRegion.get(onlineProfile.getProfileUUID());
+        if (previous == null && from == null) {
             playersInsideRegion.put(onlineProfile.getProfileUUID(), toInside);
             return;
         }
 
-        final boolean fromInside = playersInsideRegion.get(onlineProfile.getProfileUUID());
+        final boolean fromInside = previous == null ? isInsideHandleException(from, onlineProfile) : previous;
         playersInsideRegion.put(onlineProfile.getProfileUUID(), toInside);
 
         if ((entry && toInside && !fromInside || exit && fromInside && !toInside) && checkConditions(onlineProfile)) {
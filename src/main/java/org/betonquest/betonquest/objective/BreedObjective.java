@@ -1,22 +1,17 @@
 package org.betonquest.betonquest.objective;
 
-import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.CountingObjective;
 import org.betonquest.betonquest.api.profile.OnlineProfile;
 import org.betonquest.betonquest.api.quest.QuestException;
 import org.betonquest.betonquest.instruction.Instruction;
 import org.betonquest.betonquest.instruction.argument.VariableArgument;
-import org.betonquest.betonquest.util.PlayerConverter;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.entity.EntityBreedEvent;
 
 @SuppressWarnings("PMD.CommentRequired")
-public class BreedObjective extends CountingObjective implements Listener {
+public class BreedObjective extends CountingObjective {
 
     private final EntityType type;
 
@@ -26,24 +21,21 @@ public class BreedObjective extends CountingObjective implements Listener {
         targetAmount = instruction.get(VariableArgument.NUMBER_NOT_LESS_THAN_ONE);
     }
 
-    @EventHandler(ignoreCancelled = true)
-    public void onBreeding(final EntityBreedEvent event) {
-        if (event.getEntityType() == type && event.getBreeder() instanceof Player) {
-            final OnlineProfile onlineProfile = PlayerConverter.getID((Player) event.getBreeder());
-            if (containsPlayer(onlineProfile) && checkConditions(onlineProfile)) {
-                getCountingData(onlineProfile).progress();
-                completeIfDoneOrNotify(onlineProfile);
-            }
+    private void onBreeding(final EntityBreedEvent event, final OnlineProfile onlineProfile) {
+        if (event.getEntityType() == type && checkConditions(onlineProfile)) {
+            getCountingData(onlineProfile).progress();
+            completeIfDoneOrNotify(onlineProfile);
         }
     }
 
     @Override
     public void start() {
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
+        listen(EntityBreedEvent.class, EventPriority.NORMAL, true,
+                event -> event.getBreeder() instanceof final Player player ? player : null, this::onBreeding);
     }
 
     @Override
     public void stop() {
-        HandlerList.unregisterAll(this);
+        // Empty
     }
 }
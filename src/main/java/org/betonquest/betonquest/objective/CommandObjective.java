@@ -10,12 +10,7 @@ import org.betonquest.betonquest.id.EventID;
 import org.betonquest.betonquest.instruction.Instruction;
 import org.betonquest.betonquest.instruction.argument.VariableArgument;
 import org.betonquest.betonquest.instruction.variable.VariableString;
-import org.betonquest.betonquest.util.PlayerConverter;
-import org.bukkit.Bukkit;
-import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerCommandPreprocessEvent;
 
 import java.util.List;
@@ -24,7 +19,7 @@ import java.util.List;
  * Requires the player to execute a specific command.
  */
 @SuppressWarnings("PMD.CommentRequired")
-public class CommandObjective extends Objective implements Listener {
+public class CommandObjective extends Objective {
     private final VariableString command;
 
     private final boolean ignoreCase;
@@ -41,14 +36,12 @@ public class CommandObjective extends Objective implements Listener {
         ignoreCase = instruction.hasArgument("ignoreCase");
         exact = instruction.hasArgument("exact");
         cancel = instruction.hasArgument("cancel");
-        failEvents = instruction.getIDList(instruction.getOptional("failEvents"), EventID::new);
+        failEvents = instruction.getIDList(instruction.getOptional("failEvents"), EventID::of);
     }
 
     @SuppressWarnings("PMD.AvoidDeeplyNestedIfStmts")
-    @EventHandler(priority = EventPriority.LOWEST)
-    public void onCommand(final PlayerCommandPreprocessEvent event) {
-        final OnlineProfile onlineProfile = PlayerConverter.getID(event.getPlayer());
-        if (containsPlayer(onlineProfile) && checkConditions(onlineProfile)) {
+    private void onCommand(final PlayerCommandPreprocessEvent event, final OnlineProfile onlineProfile) {
+        if (checkConditions(onlineProfile)) {
             final String replaceCommand = command.getString(onlineProfile);
             if (foundMatch(event.getMessage(), replaceCommand)) {
                 if (cancel) {
@@ -65,12 +58,13 @@ public class CommandObjective extends Objective implements Listener {
 
     @Override
     public void start() {
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
+        listen(PlayerCommandPreprocessEvent.class, EventPriority.LOWEST, false,
+                PlayerCommandPreprocessEvent::getPlayer, this::onCommand);
     }
 
     @Override
     public void stop() {
-        HandlerList.unregisterAll(this);
+        // Empty
     }
 
     @Override
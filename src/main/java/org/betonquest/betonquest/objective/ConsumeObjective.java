@@ -1,24 +1,19 @@
 package org.betonquest.betonquest.objective;
 
-import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.CountingObjective;
 import org.betonquest.betonquest.api.profile.OnlineProfile;
 import org.betonquest.betonquest.api.quest.QuestException;
 import org.betonquest.betonquest.instruction.Instruction;
 import org.betonquest.betonquest.instruction.argument.VariableArgument;
 import org.betonquest.betonquest.item.QuestItem;
-import org.betonquest.betonquest.util.PlayerConverter;
-import org.bukkit.Bukkit;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.player.PlayerItemConsumeEvent;
 
 /**
  * Requires the player to consume an item (eat food or drink a potion).
  */
 @SuppressWarnings("PMD.CommentRequired")
-public class ConsumeObjective extends CountingObjective implements Listener {
+public class ConsumeObjective extends CountingObjective {
 
     /**
      * The name of the argument that determines the amount of items to consume.
@@ -45,12 +40,11 @@ public class ConsumeObjective extends CountingObjective implements Listener {
     /**
      * The listener that handles a consumed item.
      *
-     * @param event the Bukkit event for consuming an item
+     * @param event         the Bukkit event for consuming an item
+     * @param onlineProfile the profile of the consuming player
      */
-    @EventHandler(ignoreCancelled = true)
-    public void onConsume(final PlayerItemConsumeEvent event) {
-        final OnlineProfile onlineProfile = PlayerConverter.getID(event.getPlayer());
-        if (containsPlayer(onlineProfile) && item.compare(event.getItem()) && checkConditions(onlineProfile)) {
+    private void onConsume(final PlayerItemConsumeEvent event, final OnlineProfile onlineProfile) {
+        if (item.compare(event.getItem()) && checkConditions(onlineProfile)) {
             getCountingData(onlineProfile).progress();
             completeIfDoneOrNotify(onlineProfile);
         }
@@ -58,11 +52,11 @@ public class ConsumeObjective extends CountingObjective implements Listener {
 
     @Override
     public void start() {
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
+        listen(PlayerItemConsumeEvent.class, EventPriority.NORMAL, true, PlayerItemConsumeEvent::getPlayer, this::onConsume);
     }
 
     @Override
     public void stop() {
-        HandlerList.unregisterAll(this);
+        // Empty
     }
 }
@@ -1,6 +1,5 @@
 package org.betonquest.betonquest.objective;
 
-import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.CountingObjective;
 import org.betonquest.betonquest.api.profile.OnlineProfile;
 import org.betonquest.betonquest.api.quest.QuestException;
@@ -8,13 +7,8 @@ import org.betonquest.betonquest.instruction.Instruction;
 import org.betonquest.betonquest.instruction.argument.VariableArgument;
 import org.betonquest.betonquest.item.QuestItem;
 import org.betonquest.betonquest.util.InventoryUtils;
-import org.betonquest.betonquest.util.PlayerConverter;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.CraftItemEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
@@ -23,7 +17,7 @@ import org.bukkit.inventory.PlayerInventory;
  * Player has to craft specified amount of items.
  */
 @SuppressWarnings("PMD.CommentRequired")
-public class CraftingObjective extends CountingObjective implements Listener {
+public class CraftingObjective extends CountingObjective {
 
     private final QuestItem item;
 
@@ -49,24 +43,21 @@ public class CraftingObjective extends CountingObjective implements Listener {
         };
     }
 
-    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-    public void onCrafting(final CraftItemEvent event) {
-        if (event.getWhoClicked() instanceof final Player player) {
-            final OnlineProfile onlineProfile = PlayerConverter.getID(player);
-            if (containsPlayer(onlineProfile) && item.compare(event.getInventory().getResult()) && checkConditions(onlineProfile)) {
-                getCountingData(onlineProfile).progress(calculateCraftAmount(event));
-                completeIfDoneOrNotify(onlineProfile);
-            }
+    private void onCrafting(final CraftItemEvent event, final OnlineProfile onlineProfile) {
+        if (item.compare(event.getInventory().getResult()) && checkConditions(onlineProfile)) {
+            getCountingData(onlineProfile).progress(calculateCraftAmount(event));
+            completeIfDoneOrNotify(onlineProfile);
         }
     }
 
     @Override
     public void start() {
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
+        listen(CraftItemEvent.class, EventPriority.MONITOR, true,
+                event -> event.getWhoClicked() instanceof final Player player ? player : null, this::onCrafting);
     }
 
     @Override
     public void stop() {
-        HandlerList.unregisterAll(this);
+        // Empty
     }
 }
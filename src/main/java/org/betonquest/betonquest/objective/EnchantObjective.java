@@ -1,18 +1,13 @@
 package org.betonquest.betonquest.objective;
 
-import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.CountingObjective;
 import org.betonquest.betonquest.api.profile.OnlineProfile;
 import org.betonquest.betonquest.api.quest.QuestException;
 import org.betonquest.betonquest.instruction.Instruction;
 import org.betonquest.betonquest.instruction.argument.VariableArgument;
 import org.betonquest.betonquest.item.QuestItem;
-import org.betonquest.betonquest.util.PlayerConverter;
-import org.bukkit.Bukkit;
 import org.bukkit.enchantments.Enchantment;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.enchantment.EnchantItemEvent;
 
 import java.util.List;
@@ -23,7 +18,7 @@ import java.util.Map;
  * An objective that requires the player to enchant a {@link QuestItem}.
  */
 @SuppressWarnings("PMD.CommentRequired")
-public class EnchantObjective extends CountingObjective implements Listener {
+public class EnchantObjective extends CountingObjective {
     private static final String JUST_ONE_ENCHANT = "one";
 
     private final QuestItem item;
@@ -44,12 +39,7 @@ public class EnchantObjective extends CountingObjective implements Listener {
         instruction.getOptionalArgument("requirementMode").ifPresent((mode) -> requireOne = JUST_ONE_ENCHANT.equalsIgnoreCase(mode));
     }
 
-    @EventHandler(ignoreCancelled = true)
-    public void onEnchant(final EnchantItemEvent event) {
-        final OnlineProfile onlineProfile = PlayerConverter.getID(event.getEnchanter());
-        if (!containsPlayer(onlineProfile)) {
-            return;
-        }
+    private void onEnchant(final EnchantItemEvent event, final OnlineProfile onlineProfile) {
         if (!item.compare(event.getItem())) {
             return;
         }
@@ -79,12 +69,12 @@ public class EnchantObjective extends CountingObjective implements Listener {
 
     @Override
     public void start() {
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
+        listen(EnchantItemEvent.class, EventPriority.NORMAL, true, EnchantItemEvent::getEnchanter, this::onEnchant);
     }
 
     @Override
     public void stop() {
-        HandlerList.unregisterAll(this);
+        // Empty
     }
 
     /**
@@ -28,7 +28,7 @@ public class KillPlayerObjective extends CountingObjective implements Listener {
         super(instruction, "players_to_kill");
         targetAmount = instruction.get(VariableArgument.NUMBER_NOT_LESS_THAN_ONE);
         name = instruction.getOptional("name");
-        required = instruction.getIDList(instruction.getOptional("required"), ConditionID::new);
+        required = instruction.getIDList(instruction.getOptional("required"), ConditionID::of);
     }
 
     @SuppressWarnings("PMD.CyclomaticComplexity")
@@ -7,9 +7,8 @@ import org.betonquest.betonquest.api.quest.QuestException;
 import org.betonquest.betonquest.instruction.Instruction;
 import org.betonquest.betonquest.instruction.variable.VariableNumber;
 import org.betonquest.betonquest.instruction.variable.location.VariableLocation;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Player has to reach certain radius around the specified location
@@ -53,13 +52,17 @@ public class LocationObjective extends AbstractLocationObjective {
     }
 
     @Override
-    public void start() {
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
-    }
-
-    @Override
-    public void stop() {
-        HandlerList.unregisterAll(this);
+    @Nullable
+    protected LocationObjectiveIndex.Area getStaticArea() {
+        if (!loc.isConstant() || !range.isConstant()) {
+            return null;
+        }
+        try {
+            return LocationObjectiveIndex.Area.around(loc.getValue(null), range.getValue(null).doubleValue());
+        } catch (final QuestException e) {
+            log.debug(instruction.getPackage(), "Could not resolve the static area of '" + instruction.getID() + "' objective", e);
+            return null;
+        }
     }
 
     @Override
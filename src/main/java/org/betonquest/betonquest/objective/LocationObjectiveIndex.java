@@ -0,0 +1,307 @@
+package org.betonquest.betonquest.objective;
+
+import org.betonquest.betonquest.BetonQuest;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.event.vehicle.VehicleMoveEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dispatches movements of players to all started {@link AbstractLocationObjective}s.
+ * <p>
+ * Objectives with a static area are stored in a chunk grid per world and only checked for players in or leaving
+ * one of the chunks the area overlaps. All other objectives are checked for every movement.
+ * Movements inside the same block are ignored.
+ * <p>
+ * The index is only accessed from the main thread.
+ */
+public final class LocationObjectiveIndex implements Listener {
+    /**
+     * The bit shift from block to chunk coordinates.
+     */
+    private static final int CHUNK_SHIFT = 4;
+
+    /**
+     * The maximum amount of chunks an area may overlap to be stored in the grid.
+     * Larger areas are treated like objectives without a static area.
+     */
+    private static final long MAX_INDEXED_CHUNKS = 4096;
+
+    /**
+     * The shared index instance, registered while at least one objective is started.
+     */
+    @Nullable
+    private static LocationObjectiveIndex instance;
+
+    /**
+     * Objectives without a static area.
+     */
+    private final Set<AbstractLocationObjective> unbounded;
+
+    /**
+     * Objectives with a static area and their area.
+     */
+    private final Map<AbstractLocationObjective, Area> bounded;
+
+    /**
+     * Objectives with a static area per world and chunk key.
+     */
+    private final Map<String, Map<Long, Set<AbstractLocationObjective>>> grid;
+
+    private LocationObjectiveIndex() {
+        unbounded = new LinkedHashSet<>();
+        bounded = new LinkedHashMap<>();
+        grid = new HashMap<>();
+    }
+
+    /**
+     * Adds an objective to the index.
+     *
+     * @param objective the started objective
+     * @param area      the static area of the objective or null if it has none
+     */
+    static void register(final AbstractLocationObjective objective, @Nullable final Area area) {
+        if (instance == null) {
+            instance = new LocationObjectiveIndex();
+            Bukkit.getPluginManager().registerEvents(instance, BetonQuest.getInstance());
+        }
+        if (area == null || area.chunkCount() > MAX_INDEXED_CHUNKS) {
+            instance.unbounded.add(objective);
+        } else {
+            instance.add(objective, area);
+        }
+    }
+
+    /**
+     * Removes an objective from the index.
+     *
+     * @param objective the stopped objective
+     */
+    static void unregister(final AbstractLocationObjective objective) {
+        if (instance == null) {
+            return;
+        }
+        instance.unbounded.remove(objective);
+        instance.remove(objective);
+        if (instance.unbounded.isEmpty() && instance.bounded.isEmpty()) {
+            HandlerList.unregisterAll(instance);
+            instance = null;
+        }
+    }
+
+    private static long chunkKey(final int chunkX, final int chunkZ) {
+        return (long) chunkX << 32 | chunkZ & 0xFFFF_FFFFL;
+    }
+
+    private static long chunkKey(final Location location) {
+        return chunkKey(location.getBlockX() >> CHUNK_SHIFT, location.getBlockZ() >> CHUNK_SHIFT);
+    }
+
+    private static boolean isSameBlock(final Location from, final Location location) {
+        return from.getBlockX() == location.getBlockX() && from.getBlockY() == location.getBlockY()
+                && from.getBlockZ() == location.getBlockZ() && from.getWorld() == location.getWorld();
+    }
+
+    private void add(final AbstractLocationObjective objective, final Area area) {
+        bounded.put(objective, area);
+        final Map<Long, Set<AbstractLocationObjective>> chunks = grid.computeIfAbsent(area.world(), world -> new HashMap<>());
+        for (int chunkX = area.minChunkX(); chunkX <= area.maxChunkX(); chunkX++) {
+            for (int chunkZ = area.minChunkZ(); chunkZ <= area.maxChunkZ(); chunkZ++) {
+                chunks.computeIfAbsent(chunkKey(chunkX, chunkZ), key -> new LinkedHashSet<>()).add(objective);
+            }
+        }
+    }
+
+    private void remove(final AbstractLocationObjective objective) {
+        final Area area = bounded.remove(objective);
+        if (area == null) {
+            return;
+        }
+        final Map<Long, Set<AbstractLocationObjective>> chunks = grid.get(area.world());
+        if (chunks == null) {
+            return;
+        }
+        for (int chunkX = area.minChunkX(); chunkX <= area.maxChunkX(); chunkX++) {
+            for (int chunkZ = area.minChunkZ(); chunkZ <= area.maxChunkZ(); chunkZ++) {
+                final long key = chunkKey(chunkX, chunkZ);
+                final Set<AbstractLocationObjective> objectives = chunks.get(key);
+                if (objectives != null && objectives.remove(objective) && objectives.isEmpty()) {
+                    chunks.remove(key);
+                }
+            }
+        }
+        if (chunks.isEmpty()) {
+            grid.remove(area.world());
+        }
+    }
+
+    private void collect(final Location location, final Collection<AbstractLocationObjective> target) {
+        final World world = location.getWorld();
+        if (world == null) {
+            return;
+        }
+        final Map<Long, Set<AbstractLocationObjective>> chunks = grid.get(world.getName());
+        if (chunks == null) {
+            return;
+        }
+        final Set<AbstractLocationObjective> objectives = chunks.get(chunkKey(location));
+        if (objectives != null) {
+            target.addAll(objectives);
+        }
+    }
+
+    private void check(final Player player, @Nullable final Location from, final Location location) {
+        final Set<AbstractLocationObjective> candidates = new LinkedHashSet<>(unbounded);
+        collect(location, candidates);
+        if (from != null) {
+            collect(from, candidates);
+        }
+        for (final AbstractLocationObjective objective : candidates) {
+            objective.checkLocation(player, from, location);
+        }
+    }
+
+    private void checkMove(final Player player, final Location from, final Location location) {
+        if (!isSameBlock(from, location)) {
+            check(player, from, location);
+        }
+    }
+
+    /**
+     * Checks the location of a joining player.
+     *
+     * @param event the PlayerJoinEvent
+     */
+    @EventHandler(ignoreCancelled = true)
+    public void onPlayerJoin(final PlayerJoinEvent event) {
+        check(event.getPlayer(), null, event.getPlayer().getLocation());
+    }
+
+    /**
+     * Removes the stored state of a leaving player from all objectives.
+     *
+     * @param event the PlayerQuitEvent
+     */
+    @EventHandler(ignoreCancelled = true)
+    public void onPlayerQuit(final PlayerQuitEvent event) {
+        for (final AbstractLocationObjective objective : unbounded) {
+            objective.removePlayer(event.getPlayer());
+        }
+        for (final AbstractLocationObjective objective : bounded.keySet()) {
+            objective.removePlayer(event.getPlayer());
+        }
+    }
+
+    /**
+     * Checks the location of a dying player.
+     *
+     * @param event the PlayerDeathEvent
+     */
+    @EventHandler(ignoreCancelled = true)
+    public void onPlayerDeath(final PlayerDeathEvent event) {
+        check(event.getEntity(), null, event.getEntity().getLocation());
+    }
+
+    /**
+     * Checks the location of a respawning player.
+     * The player is still at the death location, so objectives around it see the player leaving.
+     *
+     * @param event the PlayerRespawnEvent
+     */
+    @EventHandler(ignoreCancelled = true)
+    public void onPlayerRespawn(final PlayerRespawnEvent event) {
+        check(event.getPlayer(), event.getPlayer().getLocation(), event.getRespawnLocation());
+    }
+
+    /**
+     * Checks the location of a teleporting player.
+     *
+     * @param event the PlayerTeleportEvent
+     */
+    @EventHandler(ignoreCancelled = true)
+    public void onPlayerTeleport(final PlayerTeleportEvent event) {
+        onPlayerMove(event);
+    }
+
+    /**
+     * Checks the location of a moving player.
+     *
+     * @param event the PlayerMoveEvent
+     */
+    @EventHandler(ignoreCancelled = true)
+    public void onPlayerMove(final PlayerMoveEvent event) {
+        checkMove(event.getPlayer(), event.getFrom(), event.getTo());
+    }
+
+    /**
+     * Checks the location of all players riding a moving vehicle.
+     *
+     * @param event the VehicleMoveEvent
+     */
+    @EventHandler(ignoreCancelled = true)
+    public void onVehicleMove(final VehicleMoveEvent event) {
+        for (final Entity passenger : event.getVehicle().getPassengers()) {
+            if (passenger instanceof final Player player) {
+                checkMove(player, event.getFrom(), event.getTo());
+            }
+        }
+    }
+
+    /**
+     * An area that never changes, expressed as the chunks it overlaps.
+     *
+     * @param world     the name of the world
+     * @param minChunkX the lowest chunk x coordinate
+     * @param minChunkZ the lowest chunk z coordinate
+     * @param maxChunkX the highest chunk x coordinate
+     * @param maxChunkZ the highest chunk z coordinate
+     */
+    public record Area(String world, int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ) {
+        /**
+         * Gets the amount of chunks this area overlaps.
+         *
+         * @return the amount of chunks
+         */
+        public long chunkCount() {
+            return ((long) maxChunkX - minChunkX + 1) * ((long) maxChunkZ - minChunkZ + 1);
+        }
+
+        /**
+         * Creates the area of all chunks overlapping a sphere.
+         *
+         * @param center the center of the sphere
+         * @param radius the radius of the sphere
+         * @return the area around the center
+         */
+        public static Area around(final Location center, final double radius) {
+            final World world = center.getWorld();
+            if (world == null) {
+                throw new IllegalArgumentException("The location has no world!");
+            }
+            return new Area(world.getName(),
+                    (int) Math.floor(center.getX() - radius) >> CHUNK_SHIFT,
+                    (int) Math.floor(center.getZ() - radius) >> CHUNK_SHIFT,
+                    (int) Math.floor(center.getX() + radius) >> CHUNK_SHIFT,
+                    (int) Math.floor(center.getZ() + radius) >> CHUNK_SHIFT);
+        }
+    }
+}
@@ -1,45 +1,38 @@
 package org.betonquest.betonquest.objective;
 
-import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.Objective;
 import org.betonquest.betonquest.api.profile.OnlineProfile;
 import org.betonquest.betonquest.api.profile.Profile;
 import org.betonquest.betonquest.api.quest.QuestException;
 import org.betonquest.betonquest.instruction.Instruction;
-import org.betonquest.betonquest.util.PlayerConverter;
-import org.bukkit.Bukkit;
-import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerQuitEvent;
 
 /**
  * Requires the player to leave the server.
  */
 @SuppressWarnings("PMD.CommentRequired")
-public class LogoutObjective extends Objective implements Listener {
+public class LogoutObjective extends Objective {
 
     public LogoutObjective(final Instruction instruction) throws QuestException {
         super(instruction);
     }
 
-    @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
-    public void onQuit(final PlayerQuitEvent event) {
-        final OnlineProfile onlineProfile = PlayerConverter.getID(event.getPlayer());
-        if (containsPlayer(onlineProfile) && checkConditions(onlineProfile)) {
+    private void onQuit(final OnlineProfile onlineProfile) {
+        if (checkConditions(onlineProfile)) {
             completeObjective(onlineProfile);
         }
     }
 
     @Override
     public void start() {
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
+        listen(PlayerQuitEvent.class, EventPriority.LOWEST, true, PlayerQuitEvent::getPlayer,
+                (event, onlineProfile) -> onQuit(onlineProfile));
     }
 
     @Override
     public void stop() {
-        HandlerList.unregisterAll(this);
+        // Empty
     }
 
     @Override
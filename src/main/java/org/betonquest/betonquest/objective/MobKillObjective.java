@@ -9,12 +9,9 @@ import org.betonquest.betonquest.instruction.Instruction;
 import org.betonquest.betonquest.instruction.argument.VariableArgument;
 import org.betonquest.betonquest.instruction.variable.VariableString;
 import org.betonquest.betonquest.util.Utils;
-import org.bukkit.Bukkit;
 import org.bukkit.NamespacedKey;
 import org.bukkit.entity.EntityType;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
+import org.bukkit.event.EventPriority;
 import org.bukkit.persistence.PersistentDataType;
 import org.jetbrains.annotations.Nullable;
 
@@ -26,7 +23,7 @@ import java.util.List;
  * amount.
  */
 @SuppressWarnings("PMD.CommentRequired")
-public class MobKillObjective extends CountingObjective implements Listener {
+public class MobKillObjective extends CountingObjective {
     private final List<EntityType> entities;
 
     @Nullable
@@ -47,11 +44,8 @@ public class MobKillObjective extends CountingObjective implements Listener {
     }
 
     @SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.NPathComplexity"})
-    @EventHandler(ignoreCancelled = true)
-    public void onMobKill(final MobKilledEvent event) {
-        final OnlineProfile onlineProfile = event.getProfile().getOnlineProfile().get();
-        if (!containsPlayer(onlineProfile)
-                || !entities.contains(event.getEntity().getType())
+    private void onMobKill(final MobKilledEvent event, final OnlineProfile onlineProfile) {
+        if (!entities.contains(event.getEntity().getType())
                 || name != null && (event.getEntity().getCustomName() == null
                 || !event.getEntity().getCustomName().equals(name))) {
             return;
@@ -73,11 +67,12 @@ public class MobKillObjective extends CountingObjective implements Listener {
 
     @Override
     public void start() {
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
+        listen(MobKilledEvent.class, EventPriority.NORMAL, true,
+                event -> event.getProfile().getOnlineProfile().map(OnlineProfile::getPlayer).orElse(null), this::onMobKill);
     }
 
     @Override
     public void stop() {
-        HandlerList.unregisterAll(this);
+        // Empty
     }
 }
@@ -42,7 +42,7 @@ public class PasswordObjective extends Objective implements Listener {
         regex = Pattern.compile(pattern, regexFlags);
         final String prefix = instruction.getOptional("prefix");
         passwordPrefix = prefix == null || prefix.isEmpty() ? prefix : prefix + ": ";
-        failEvents = instruction.getIDList(instruction.getOptional("fail"), EventID::new);
+        failEvents = instruction.getIDList(instruction.getOptional("fail"), EventID::of);
     }
 
     @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
@@ -1,23 +1,18 @@
 package org.betonquest.betonquest.objective;
 
-import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.CountingObjective;
 import org.betonquest.betonquest.api.profile.OnlineProfile;
 import org.betonquest.betonquest.api.quest.QuestException;
 import org.betonquest.betonquest.instruction.Instruction;
 import org.betonquest.betonquest.instruction.Item;
 import org.betonquest.betonquest.instruction.argument.VariableArgument;
-import org.betonquest.betonquest.util.PlayerConverter;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.entity.EntityPickupItemEvent;
 import org.bukkit.inventory.ItemStack;
 
 @SuppressWarnings("PMD.CommentRequired")
-public class PickupObjective extends CountingObjective implements Listener {
+public class PickupObjective extends CountingObjective {
 
     private final Item[] pickupItems;
 
@@ -27,16 +22,11 @@ public class PickupObjective extends CountingObjective implements Listener {
         targetAmount = instruction.get(instruction.getOptional("amount", "1"), VariableArgument.NUMBER_NOT_LESS_THAN_ONE);
     }
 
-    @EventHandler(ignoreCancelled = true)
-    public void onPickup(final EntityPickupItemEvent event) {
-        if (isValidItem(event.getItem().getItemStack()) && event.getEntity() instanceof Player) {
-            final OnlineProfile onlineProfile = PlayerConverter.getID((Player) event.getEntity());
-
-            if (containsPlayer(onlineProfile) && checkConditions(onlineProfile)) {
-                final ItemStack pickupItem = event.getItem().getItemStack();
-                getCountingData(onlineProfile).progress(pickupItem.getAmount());
-                completeIfDoneOrNotify(onlineProfile);
-            }
+    private void onPickup(final EntityPickupItemEvent event, final OnlineProfile onlineProfile) {
+        if (isValidItem(event.getItem().getItemStack()) && checkConditions(onlineProfile)) {
+            final ItemStack pickupItem = event.getItem().getItemStack();
+            getCountingData(onlineProfile).progress(pickupItem.getAmount());
+            completeIfDoneOrNotify(onlineProfile);
         }
     }
 
@@ -51,11 +41,12 @@ public class PickupObjective extends CountingObjective implements Listener {
 
     @Override
     public void start() {
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
+        listen(EntityPickupItemEvent.class, EventPriority.NORMAL, true,
+                event -> event.getEntity() instanceof final Player player ? player : null, this::onPickup);
     }
 
     @Override
     public void stop() {
-        HandlerList.unregisterAll(this);
+        // Empty
     }
 }
@@ -1,25 +1,20 @@
 package org.betonquest.betonquest.objective;
 
-import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.Objective;
 import org.betonquest.betonquest.api.profile.OnlineProfile;
 import org.betonquest.betonquest.api.profile.Profile;
 import org.betonquest.betonquest.api.quest.QuestException;
 import org.betonquest.betonquest.instruction.Instruction;
-import org.betonquest.betonquest.util.PlayerConverter;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.vehicle.VehicleEnterEvent;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Locale;
 
 @SuppressWarnings("PMD.CommentRequired")
-public class RideObjective extends Objective implements Listener {
+public class RideObjective extends Objective {
     /**
      * Any property for the entity type.
      */
@@ -45,25 +40,21 @@ public class RideObjective extends Objective implements Listener {
         }
     }
 
-    @EventHandler(ignoreCancelled = true)
-    public void onVehicleEnter(final VehicleEnterEvent event) {
-        if (!(event.getEntered() instanceof Player)) {
-            return;
-        }
-        final OnlineProfile onlineProfile = PlayerConverter.getID((Player) event.getEntered());
-        if (containsPlayer(onlineProfile) && (any || event.getVehicle().getType() == vehicle) && checkConditions(onlineProfile)) {
+    private void onVehicleEnter(final VehicleEnterEvent event, final OnlineProfile onlineProfile) {
+        if ((any || event.getVehicle().getType() == vehicle) && checkConditions(onlineProfile)) {
             completeObjective(onlineProfile);
         }
     }
 
     @Override
     public void start() {
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
+        listen(VehicleEnterEvent.class, EventPriority.NORMAL, true,
+                event -> event.getEntered() instanceof final Player player ? player : null, this::onVehicleEnter);
     }
 
     @Override
     public void stop() {
-        HandlerList.unregisterAll(this);
+        // Empty
     }
 
     @Override
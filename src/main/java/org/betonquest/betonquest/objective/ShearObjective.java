@@ -1,19 +1,14 @@
 package org.betonquest.betonquest.objective;
 
-import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.CountingObjective;
 import org.betonquest.betonquest.api.profile.OnlineProfile;
 import org.betonquest.betonquest.api.quest.QuestException;
 import org.betonquest.betonquest.instruction.Instruction;
 import org.betonquest.betonquest.instruction.argument.VariableArgument;
-import org.betonquest.betonquest.util.PlayerConverter;
-import org.bukkit.Bukkit;
 import org.bukkit.DyeColor;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Sheep;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.player.PlayerShearEntityEvent;
 import org.jetbrains.annotations.Nullable;
 
@@ -23,7 +18,7 @@ import java.util.regex.Pattern;
  * Requires the player to shear a sheep.
  */
 @SuppressWarnings("PMD.CommentRequired")
-public class ShearObjective extends CountingObjective implements Listener {
+public class ShearObjective extends CountingObjective {
     private static final Pattern UNDERSCORE = Pattern.compile("(?<!\\\\)_");
 
     private static final Pattern ESCAPED_UNDERSCORE = Pattern.compile("(\\\\)_");
@@ -42,14 +37,11 @@ public class ShearObjective extends CountingObjective implements Listener {
         color = instruction.getEnum(instruction.getOptional("color"), DyeColor.class, null);
     }
 
-    @EventHandler(ignoreCancelled = true)
-    public void onShear(final PlayerShearEntityEvent event) {
+    private void onShear(final PlayerShearEntityEvent event, final OnlineProfile onlineProfile) {
         if (event.getEntity().getType() != EntityType.SHEEP) {
             return;
         }
-        final OnlineProfile onlineProfile = PlayerConverter.getID(event.getPlayer());
-        if (containsPlayer(onlineProfile)
-                && (name == null || name.equals(event.getEntity().getCustomName()))
+        if ((name == null || name.equals(event.getEntity().getCustomName()))
                 && (color == null || color.equals(((Sheep) event.getEntity()).getColor()))
                 && checkConditions(onlineProfile)) {
             getCountingData(onlineProfile).progress();
@@ -59,11 +51,11 @@ public class ShearObjective extends CountingObjective implements Listener {
 
     @Override
     public void start() {
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
+        listen(PlayerShearEntityEvent.class, EventPriority.NORMAL, true, PlayerShearEntityEvent::getPlayer, this::onShear);
     }
 
     @Override
     public void stop() {
-        HandlerList.unregisterAll(this);
+        // Empty
     }
 }
@@ -9,12 +9,8 @@ import org.betonquest.betonquest.api.quest.QuestException;
 import org.betonquest.betonquest.instruction.Instruction;
 import org.betonquest.betonquest.instruction.variable.location.VariableLocation;
 import org.betonquest.betonquest.util.BlockSelector;
-import org.betonquest.betonquest.util.PlayerConverter;
-import org.bukkit.Bukkit;
 import org.bukkit.block.Block;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.EquipmentSlot;
@@ -24,7 +20,7 @@ import org.jetbrains.annotations.Nullable;
  * The player must step on the pressure plate
  */
 @SuppressWarnings("PMD.CommentRequired")
-public class StepObjective extends Objective implements Listener {
+public class StepObjective extends Objective {
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
      */
@@ -56,8 +52,7 @@ public class StepObjective extends Objective implements Listener {
     }
 
     @SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.NPathComplexity"})
-    @EventHandler(ignoreCancelled = true)
-    public void onStep(final PlayerInteractEvent event) {
+    private void onStep(final PlayerInteractEvent event, final OnlineProfile onlineProfile) {
         // Only fire the event for the main hand to avoid that the event is triggered two times.
         if (event.getHand() == EquipmentSlot.OFF_HAND && event.getHand() != null) {
             return; // off hand packet, ignore.
@@ -70,7 +65,6 @@ public class StepObjective extends Objective implements Listener {
             return;
         }
         try {
-            final OnlineProfile onlineProfile = PlayerConverter.getID(event.getPlayer());
             final Block block = loc.getValue(onlineProfile).getBlock();
             if (!clickedBlock.equals(block)) {
                 return;
@@ -79,9 +73,6 @@ public class StepObjective extends Objective implements Listener {
             if (PRESSURE_PLATE_SELECTOR == null || !PRESSURE_PLATE_SELECTOR.match(block.getBlockData().getMaterial())) {
                 return;
             }
-            if (!containsPlayer(onlineProfile)) {
-                return;
-            }
             // player stepped on the pressure plate
             if (checkConditions(onlineProfile)) {
                 completeObjective(onlineProfile);
@@ -93,12 +84,12 @@ public class StepObjective extends Objective implements Listener {
 
     @Override
     public void start() {
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
+        listen(PlayerInteractEvent.class, EventPriority.NORMAL, true, PlayerInteractEvent::getPlayer, this::onStep);
     }
 
     @Override
     public void stop() {
-        HandlerList.unregisterAll(this);
+        // Empty
     }
 
     @Override
@@ -1,26 +1,21 @@
 package org.betonquest.betonquest.objective;
 
-import org.betonquest.betonquest.BetonQuest;
 import org.betonquest.betonquest.api.CountingObjective;
 import org.betonquest.betonquest.api.profile.OnlineProfile;
 import org.betonquest.betonquest.api.quest.QuestException;
 import org.betonquest.betonquest.instruction.Instruction;
 import org.betonquest.betonquest.instruction.argument.VariableArgument;
-import org.betonquest.betonquest.util.PlayerConverter;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.Tameable;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.HandlerList;
-import org.bukkit.event.Listener;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.entity.EntityTameEvent;
 
 /**
  * The player must tame specified amount of specified mobs.
  */
 @SuppressWarnings("PMD.CommentRequired")
-public class TameObjective extends CountingObjective implements Listener {
+public class TameObjective extends CountingObjective {
 
     private final EntityType type;
 
@@ -35,26 +30,21 @@ public class TameObjective extends CountingObjective implements Listener {
         targetAmount = instruction.get(VariableArgument.NUMBER_NOT_LESS_THAN_ONE);
     }
 
-    @EventHandler(ignoreCancelled = true)
-    public void onTaming(final EntityTameEvent event) {
-        if (event.getOwner() instanceof Player) {
-            final OnlineProfile onlineProfile = PlayerConverter.getID((Player) event.getOwner());
-            if (containsPlayer(onlineProfile)
-                    && type.equals(event.getEntity().getType())
-                    && checkConditions(onlineProfile)) {
-                getCountingData(onlineProfile).progress();
-                completeIfDoneOrNotify(onlineProfile);
-            }
+    private void onTaming(final EntityTameEvent event, final OnlineProfile onlineProfile) {
+        if (type.equals(event.getEntity().getType()) && checkConditions(onlineProfile)) {
+            getCountingData(onlineProfile).progress();
+            completeIfDoneOrNotify(onlineProfile);
         }
     }
 
     @Override
     public void start() {
-        Bukkit.getPluginManager().registerEvents(this, BetonQuest.getInstance());
+        listen(EntityTameEvent.class, EventPriority.NORMAL, true,
+                event -> event.getOwner() instanceof final Player player ? player : null, this::onTaming);
     }
 
     @Override
     public void stop() {
-        HandlerList.unregisterAll(this);
+        // Empty
     }
 }
@@ -11,14 +11,17 @@ import org.betonquest.betonquest.id.ConditionID;
 import org.betonquest.betonquest.util.PlayerConverter;
 import org.bukkit.Bukkit;
 import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.Collection;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * The {@link PlayerHider} can hide others, if both the source and the target {@link Profile} meet all conditions.
@@ -40,6 +43,11 @@ public class PlayerHider {
      */
     private final QuestTypeAPI questTypeAPI;
 
+    /**
+     * The UUIDs of the players hidden from each player by the last update.
+     */
+    private Map<Player, Set<UUID>> hidden;
+
     /**
      * Initialize and start a new {@link PlayerHider}.
      *
@@ -48,7 +56,22 @@ public class PlayerHider {
      * @throws QuestException Thrown if there is a configuration error.
      */
     public PlayerHider(final BetonQuest betonQuest, final QuestTypeAPI questTypeAPI) throws QuestException {
+        this(betonQuest, questTypeAPI, null);
+    }
+
+    /**
+     * Initialize and start a new {@link PlayerHider} that takes over the players hidden by a previous one.
+     * Players the new hider still hides are not shown in between.
+     *
+     * @param betonQuest   the plugin instance to get config and start the bukkit task
+     * @param questTypeAPI the Quest Type API
+     * @param previous     the cancelled previous hider or null
+     * @throws QuestException Thrown if there is a configuration error.
+     */
+    public PlayerHider(final BetonQuest betonQuest, final QuestTypeAPI questTypeAPI, @Nullable final PlayerHider previous)
+            throws QuestException {
         hiders = new HashMap<>();
+        hidden = previous == null ? new HashMap<>() : previous.hidden;
         this.questTypeAPI = questTypeAPI;
 
         for (final QuestPackage pack : Config.getPackages().values()) {
@@ -68,10 +91,27 @@ public class PlayerHider {
     }
 
     /**
-     * Stops the running {@link PlayerHider}.
+     * Stops the running {@link PlayerHider} without showing the players hidden by it,
+     * so a new hider can take them over.
+     */
+    public void cancel() {
+        bukkitTask.cancel();
+    }
+
+    /**
+     * Stops the running {@link PlayerHider} and shows all players hidden by it again.
      */
     public void stop() {
         bukkitTask.cancel();
+        for (final Map.Entry<Player, Set<UUID>> entry : hidden.entrySet()) {
+            for (final UUID targetUUID : entry.getValue()) {
+                final Player target = Bukkit.getPlayer(targetUUID);
+                if (target != null) {
+                    entry.getKey().showPlayer(BetonQuest.getInstance(), target);
+                }
+            }
+        }
+        hidden = new HashMap<>();
     }
 
     private ConditionID[] getConditions(final QuestPackage pack, final String key, @Nullable final String rawConditions) throws QuestException {
@@ -82,7 +122,7 @@ public class PlayerHider {
         final ConditionID[] conditionList = new ConditionID[rawConditionsList.length];
         for (int i = 0; i < rawConditionsList.length; i++) {
             try {
-                conditionList[i] = new ConditionID(pack, rawConditionsList[i]);
+                conditionList[i] = ConditionID.of(pack, rawConditionsList[i]);
             } catch (final QuestException e) {
                 throw new QuestException("Error while loading " + rawConditionsList[i]
                         + " condition for player_hider " + pack.getQuestPath() + "." + key + ": " + e.getMessage(), e);
@@ -93,55 +133,74 @@ public class PlayerHider {
 
     /**
      * Trigger an update for the visibility.
+     * <p>
+     * Only pairs of players whose visibility changed since the last update are hidden or shown.
      */
     public void updateVisibility() {
-        final Collection<? extends OnlineProfile> onlineProfiles = PlayerConverter.getOnlineProfiles();
-        final Map<OnlineProfile, List<OnlineProfile>> profilesToHide = getProfilesToHide(onlineProfiles);
-        for (final OnlineProfile source : onlineProfiles) {
-            updateVisibilityForProfiles(onlineProfiles, source, profilesToHide.get(source));
+        final List<OnlineProfile> onlineProfiles = PlayerConverter.getOnlineProfiles();
+        final BitSet[] hiddenTargets = getHiddenTargets(onlineProfiles);
+        final Map<Player, Set<UUID>> updated = new HashMap<>();
+        for (int sourceIndex = 0; sourceIndex < onlineProfiles.size(); sourceIndex++) {
+            final Player source = onlineProfiles.get(sourceIndex).getPlayer();
+            final Set<UUID> current = updateVisibilityForSource(source, onlineProfiles, hiddenTargets[sourceIndex]);
+            if (!current.isEmpty()) {
+                updated.put(source, current);
+            }
         }
+        hidden = updated;
     }
 
-    private void updateVisibilityForProfiles(final Collection<? extends OnlineProfile> onlineProfiles, final OnlineProfile source, @Nullable final List<OnlineProfile> profilesToHide) {
-        if (profilesToHide == null) {
-            for (final OnlineProfile target : onlineProfiles) {
-                source.getPlayer().showPlayer(BetonQuest.getInstance(), target.getPlayer());
+    private Set<UUID> updateVisibilityForSource(final Player source, final List<OnlineProfile> onlineProfiles,
+                                                final BitSet targets) {
+        final Set<UUID> previous = hidden.getOrDefault(source, Set.of());
+        final Set<UUID> current = new HashSet<>();
+        for (int targetIndex = targets.nextSetBit(0); targetIndex >= 0; targetIndex = targets.nextSetBit(targetIndex + 1)) {
+            final Player target = onlineProfiles.get(targetIndex).getPlayer();
+            current.add(target.getUniqueId());
+            if (!previous.contains(target.getUniqueId())) {
+                source.hidePlayer(BetonQuest.getInstance(), target);
             }
-        } else {
-            for (final OnlineProfile target : onlineProfiles) {
-                if (profilesToHide.contains(target)) {
-                    source.getPlayer().hidePlayer(BetonQuest.getInstance(), target.getPlayer());
-                } else {
-                    source.getPlayer().showPlayer(BetonQuest.getInstance(), target.getPlayer());
-                }
+        }
+        for (final UUID targetUUID : previous) {
+            if (current.contains(targetUUID)) {
+                continue;
+            }
+            final Player target = Bukkit.getPlayer(targetUUID);
+            if (target == null) {
+                // stays hidden by the server until shown, so show it when the target is online again
+                current.add(targetUUID);
+            } else {
+                source.showPlayer(BetonQuest.getInstance(), target);
             }
         }
+        return current;
     }
 
-    private Map<OnlineProfile, List<OnlineProfile>> getProfilesToHide(final Collection<? extends OnlineProfile> onlineProfiles) {
-        final Map<OnlineProfile, List<OnlineProfile>> profilesToHide = new HashMap<>();
+    private BitSet[] getHiddenTargets(final List<OnlineProfile> onlineProfiles) {
+        final int size = onlineProfiles.size();
+        final BitSet[] hiddenTargets = new BitSet[size];
+        for (int i = 0; i < size; i++) {
+            hiddenTargets[i] = new BitSet(size);
+        }
         for (final Map.Entry<ConditionID[], ConditionID[]> hider : hiders.entrySet()) {
-            final List<OnlineProfile> targetProfiles = new ArrayList<>();
-            for (final OnlineProfile target : onlineProfiles) {
-                if (questTypeAPI.conditions(target, hider.getValue())) {
-                    targetProfiles.add(target);
+            final BitSet targets = new BitSet(size);
+            for (int i = 0; i < size; i++) {
+                if (questTypeAPI.conditions(onlineProfiles.get(i), hider.getValue())) {
+                    targets.set(i);
                 }
             }
-            for (final OnlineProfile source : onlineProfiles) {
-                if (!questTypeAPI.conditions(source, hider.getKey())) {
-                    continue;
+            if (targets.isEmpty()) {
+                continue;
+            }
+            for (int i = 0; i < size; i++) {
+                if (questTypeAPI.conditions(onlineProfiles.get(i), hider.getKey())) {
+                    hiddenTargets[i].or(targets);
                 }
-                final List<OnlineProfile> hiddenProfiles = getOrCreateProfileList(source, profilesToHide);
-                hiddenProfiles.addAll(targetProfiles);
-                hiddenProfiles.remove(source);
-                profilesToHide.put(source, hiddenProfiles);
             }
         }
-        return profilesToHide;
-    }
-
-    private List<OnlineProfile> getOrCreateProfileList(final OnlineProfile onlineProfile, final Map<OnlineProfile, List<OnlineProfile>> profilesToHide) {
-        final List<OnlineProfile> profiles = profilesToHide.get(onlineProfile);
-        return profiles == null ? new ArrayList<>() : profiles;
+        for (int i = 0; i < size; i++) {
+            hiddenTargets[i].clear(i);
+        }
+        return hiddenTargets;
     }
 }
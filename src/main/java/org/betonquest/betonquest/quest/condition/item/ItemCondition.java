@@ -5,11 +5,12 @@ import org.betonquest.betonquest.api.quest.QuestException;
 import org.betonquest.betonquest.api.quest.condition.online.OnlineCondition;
 import org.betonquest.betonquest.data.PlayerDataStorage;
 import org.betonquest.betonquest.instruction.Item;
+import org.betonquest.betonquest.item.QuestItem;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Stream;
 
 /**
  * A condition that checks if the player has the specified items.
@@ -26,6 +27,11 @@ public class ItemCondition implements OnlineCondition {
      */
     private final Item[] questItems;
 
+    /**
+     * The quest items of {@link #questItems}, in the same order.
+     */
+    private final List<QuestItem> items;
+
     /**
      * Create a new item condition.
      *
@@ -34,22 +40,17 @@ public class ItemCondition implements OnlineCondition {
      */
     public ItemCondition(final Item[] questItems, final PlayerDataStorage dataStorage) {
         this.questItems = Arrays.copyOf(questItems, questItems.length);
+        this.items = Arrays.stream(questItems).map(Item::getItem).toList();
         this.dataStorage = dataStorage;
     }
 
     @Override
     public boolean check(final OnlineProfile profile) throws QuestException {
-        final ItemStack[] inventoryItems = profile.getPlayer().getInventory().getContents();
-        final List<ItemStack> backpackItems = dataStorage.get(profile).getBackpack();
-        for (final Item questItem : questItems) {
-            final long totalAmount = Stream.concat(
-                            Stream.of(inventoryItems),
-                            backpackItems.stream()
-                    )
-                    .filter(itemStack -> itemStack != null && questItem.isItemEqual(itemStack))
-                    .mapToInt(ItemStack::getAmount)
-                    .sum();
-            if (totalAmount < questItem.getAmount().getValue(profile).intValue()) {
+        final List<ItemStack> stacks = new ArrayList<>(Arrays.asList(profile.getPlayer().getInventory().getContents()));
+        stacks.addAll(dataStorage.get(profile).getBackpack());
+        final int[] amounts = QuestItem.countMatching(stacks, items);
+        for (int i = 0; i < questItems.length; i++) {
+            if (amounts[i] < questItems[i].getAmount().getValue(profile).intValue()) {
                 return false;
             }
         }
@@ -44,7 +44,7 @@ public class AlternativeConditionFactory implements PlayerConditionFactory, Play
 
     private AlternativeCondition parseAlternative(final Instruction instruction) throws QuestException {
         final BetonQuestLogger log = loggerFactory.create(AlternativeCondition.class);
-        final List<ConditionID> conditionIDs = instruction.getIDList(ConditionID::new);
+        final List<ConditionID> conditionIDs = instruction.getIDList(ConditionID::of);
         return new AlternativeCondition(log, conditionIDs, instruction.getPackage());
     }
 }
@@ -40,6 +40,6 @@ public class ConjunctionConditionFactory implements PlayerConditionFactory, Play
     }
 
     private ConjunctionCondition parse(final Instruction instruction) throws QuestException {
-        return new ConjunctionCondition(instruction.getIDList(ConditionID::new), questTypeAPI);
+        return new ConjunctionCondition(instruction.getIDList(ConditionID::of), questTypeAPI);
     }
 }
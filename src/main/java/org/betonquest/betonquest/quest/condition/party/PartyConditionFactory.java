@@ -52,9 +52,9 @@ public class PartyConditionFactory implements PlayerConditionFactory, Playerless
 
     private PartyCondition parse(final Instruction instruction, final VariableLocation location) throws QuestException {
         final VariableNumber range = instruction.get(VariableNumber::new);
-        final List<ConditionID> conditions = instruction.getIDList(ConditionID::new);
-        final List<ConditionID> everyone = instruction.getIDList(instruction.getOptional("every"), ConditionID::new);
-        final List<ConditionID> anyone = instruction.getIDList(instruction.getOptional("any"), ConditionID::new);
+        final List<ConditionID> conditions = instruction.getIDList(ConditionID::of);
+        final List<ConditionID> everyone = instruction.getIDList(instruction.getOptional("every"), ConditionID::of);
+        final List<ConditionID> anyone = instruction.getIDList(instruction.getOptional("any"), ConditionID::of);
         final VariableNumber count = instruction.get(instruction.getOptional("count"), VariableNumber::new);
 
         return new PartyCondition(location, range, conditions, everyone, anyone, count, questTypeAPI);
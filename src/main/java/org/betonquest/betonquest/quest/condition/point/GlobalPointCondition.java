@@ -1,6 +1,5 @@
 package org.betonquest.betonquest.quest.condition.point;
 
-import org.betonquest.betonquest.Point;
 import org.betonquest.betonquest.api.profile.Profile;
 import org.betonquest.betonquest.api.quest.QuestException;
 import org.betonquest.betonquest.api.quest.condition.nullable.NullableCondition;
@@ -8,7 +7,7 @@ import org.betonquest.betonquest.database.GlobalData;
 import org.betonquest.betonquest.instruction.variable.VariableNumber;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
+import java.util.Optional;
 
 /**
  * A condition that checks if global data has a certain amount of points.
@@ -52,13 +51,8 @@ public class GlobalPointCondition implements NullableCondition {
 
     @Override
     public boolean check(@Nullable final Profile profile) throws QuestException {
-        final List<Point> points = globalData.getPoints();
-        for (final Point point : points) {
-            if (point.getCategory().equals(category)) {
-                return checkPoints(point.getCount(), profile);
-            }
-        }
-        return false;
+        final Optional<Integer> points = globalData.getPointsFromCategory(category);
+        return points.isPresent() && checkPoints(points.get(), profile);
     }
 
     private boolean checkPoints(final int points, @Nullable final Profile profile) throws QuestException {
@@ -30,7 +30,7 @@ public class StageConditionFactory implements PlayerConditionFactory {
 
     @Override
     public PlayerCondition parsePlayer(final Instruction instruction) throws QuestException {
-        final ObjectiveID objectiveID = instruction.getID(ObjectiveID::new);
+        final ObjectiveID objectiveID = instruction.getID(ObjectiveID::of);
         final Operation operation = Operation.fromSymbol(instruction.next());
         final VariableString targetStage = instruction.get(VariableString::new);
         return new StageCondition(questTypeAPI, objectiveID, targetStage, operation);
@@ -70,13 +70,13 @@ public class FolderEventFactory implements EventFactory, StaticEventFactory {
     }
 
     private NullableEventAdapter createFolderEvent(final Instruction instruction) throws QuestException {
-        final List<EventID> events = instruction.getIDList(EventID::new);
+        final List<EventID> events = instruction.getIDList(EventID::of);
         final VariableNumber delay = instruction.get(instruction.getOptional("delay"), VariableNumber::new);
         final VariableNumber period = instruction.get(instruction.getOptional("period"), VariableNumber::new);
         final VariableNumber random = instruction.get(instruction.getOptional("random"), VariableNumber::new);
         final TimeUnit timeUnit = getTimeUnit(instruction);
         final boolean cancelOnLogout = instruction.hasArgument("cancelOnLogout");
-        final List<ConditionID> cancelConditions = instruction.getIDList(instruction.getOptional("cancelConditions"), ConditionID::new);
+        final List<ConditionID> cancelConditions = instruction.getIDList(instruction.getOptional("cancelConditions"), ConditionID::of);
         return new NullableEventAdapter(new FolderEvent(betonQuest, loggerFactory.create(FolderEvent.class), pluginManager,
                 events,
                 questTypeAPI, new Random(), delay, period, random, timeUnit, cancelOnLogout, cancelConditions));
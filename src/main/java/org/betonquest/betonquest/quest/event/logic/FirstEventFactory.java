@@ -42,7 +42,7 @@ public class FirstEventFactory implements EventFactory, StaticEventFactory {
     }
 
     private NullableEventAdapter createFirstEvent(final Instruction instruction) throws QuestException {
-        final List<EventID> list = instruction.getIDList(EventID::new);
+        final List<EventID> list = instruction.getIDList(EventID::of);
         return new NullableEventAdapter(new FirstEvent(list, questTypeAPI));
     }
 }
@@ -41,12 +41,12 @@ public class IfElseEventFactory implements EventFactory, StaticEventFactory {
     }
 
     private NullableEventAdapter createIfElseEvent(final Instruction instruction) throws QuestException {
-        final ConditionID condition = instruction.getID(ConditionID::new);
-        final EventID event = instruction.getID(EventID::new);
+        final ConditionID condition = instruction.getID(ConditionID::of);
+        final EventID event = instruction.getID(EventID::of);
         if (!"else".equalsIgnoreCase(instruction.next())) {
             throw new QuestException("Missing 'else' keyword");
         }
-        final EventID elseEvent = instruction.getID(EventID::new);
+        final EventID elseEvent = instruction.getID(EventID::of);
         return new NullableEventAdapter(new IfElseEvent(condition, event, elseEvent, questTypeAPI));
     }
 }
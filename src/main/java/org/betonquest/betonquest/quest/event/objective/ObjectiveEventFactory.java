@@ -69,7 +69,7 @@ public class ObjectiveEventFactory implements EventFactory, StaticEventFactory {
 
     private NullableEventAdapter createObjectiveEvent(final Instruction instruction) throws QuestException {
         final String action = instruction.next().toLowerCase(Locale.ROOT);
-        final List<ObjectiveID> objectives = instruction.getIDList(ObjectiveID::new);
+        final List<ObjectiveID> objectives = instruction.getIDList(ObjectiveID::of);
         return new NullableEventAdapter(new ObjectiveEvent(betonQuest, loggerFactory.create(ObjectiveEvent.class),
                 pluginMessage, questTypeAPI, instruction.getPackage(), objectives, action));
     }
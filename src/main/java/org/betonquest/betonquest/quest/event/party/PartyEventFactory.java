@@ -42,8 +42,8 @@ public class PartyEventFactory implements EventFactory {
     public Event parseEvent(final Instruction instruction) throws QuestException {
         final VariableNumber range = instruction.get(VariableNumber::new);
         final VariableNumber amount = instruction.get(instruction.getOptional("amount"), VariableNumber::new);
-        final List<ConditionID> conditions = instruction.getIDList(ConditionID::new);
-        final List<EventID> events = instruction.getIDList(EventID::new);
+        final List<ConditionID> conditions = instruction.getIDList(ConditionID::of);
+        final List<EventID> events = instruction.getIDList(EventID::of);
         return new OnlineEventAdapter(
                 new PartyEvent(questTypeAPI, range, amount, conditions, events),
                 loggerFactory.create(PartyEvent.class),
@@ -77,7 +77,7 @@ public class PickRandomEventFactory implements EventFactory, StaticEventFactory
 
             if (NUMBER_OF_MINIMUM_PERCENTAGES == count) {
                 try {
-                    eventID = new EventID(instruction.getPackage(), parts[1]);
+                    eventID = EventID.of(instruction.getPackage(), parts[1]);
                 } catch (final QuestException e) {
                     throw new QuestException("Error while loading event: " + e.getMessage(), e);
                 }
@@ -85,14 +85,14 @@ public class PickRandomEventFactory implements EventFactory, StaticEventFactory
                 return new RandomEvent(eventID, chance);
             } else if (NUMBER_OF_MAXIMUM_PERCENTAGES == count) {
                 try {
-                    eventID = new EventID(instruction.getPackage(), parts[3]);
+                    eventID = EventID.of(instruction.getPackage(), parts[3]);
                 } catch (final QuestException e) {
                     throw new QuestException("Error while loading event: " + e.getMessage(), e);
                 }
                 final VariableNumber chance = instruction.get("%" + parts[1] + "%", VariableNumber::new);
                 return new RandomEvent(eventID, chance);
             }
-            throw new QuestException("Error while loading event: '" + instruction.getID(EventID::new).getFullID() + "'. Wrong number of % detected. Check your event.");
+            throw new QuestException("Error while loading event: '" + instruction.getID(EventID::of).getFullID() + "'. Wrong number of % detected. Check your event.");
         });
         final VariableNumber amount = instruction.get(instruction.getOptional("amount"), VariableNumber::new);
         return new NullableEventAdapter(new PickRandomEvent(events, amount, questTypeAPI));
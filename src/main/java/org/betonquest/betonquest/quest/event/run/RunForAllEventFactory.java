@@ -32,8 +32,8 @@ public class RunForAllEventFactory implements StaticEventFactory {
 
     @Override
     public StaticEvent parseStaticEvent(final Instruction instruction) throws QuestException {
-        final List<EventID> events = instruction.getIDList(instruction.getOptional("events"), EventID::new);
-        final List<ConditionID> conditions = instruction.getIDList(instruction.getOptional("where"), ConditionID::new);
+        final List<EventID> events = instruction.getIDList(instruction.getOptional("events"), EventID::of);
+        final List<ConditionID> conditions = instruction.getIDList(instruction.getOptional("where"), ConditionID::of);
         return new RunForAllEvent(PlayerConverter::getOnlineProfiles, questTypeAPI, events, conditions);
     }
 }
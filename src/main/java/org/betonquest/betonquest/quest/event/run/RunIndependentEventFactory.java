@@ -30,7 +30,7 @@ public class RunIndependentEventFactory implements StaticEventFactory {
 
     @Override
     public StaticEvent parseStaticEvent(final Instruction instruction) throws QuestException {
-        final List<EventID> events = instruction.getIDList(instruction.getOptional("events"), EventID::new);
+        final List<EventID> events = instruction.getIDList(instruction.getOptional("events"), EventID::of);
         return new RunIndependentEvent(questTypeAPI, events);
     }
 }
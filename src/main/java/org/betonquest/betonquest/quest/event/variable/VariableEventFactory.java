@@ -30,7 +30,7 @@ public class VariableEventFactory implements EventFactory {
 
     @Override
     public Event parseEvent(final Instruction instruction) throws QuestException {
-        final ObjectiveID objectiveID = instruction.getID(ObjectiveID::new);
+        final ObjectiveID objectiveID = instruction.getID(ObjectiveID::of);
         final VariableString key = instruction.get(VariableArgument.STRING_REPLACE_UNDERSCORES);
         final VariableString value = instruction.get(VariableArgument.STRING_REPLACE_UNDERSCORES);
         return new VariableEvent(questTypeAPI, objectiveID, key, value);
@@ -6,6 +6,8 @@ import org.betonquest.betonquest.api.quest.condition.PlayerCondition;
 import org.betonquest.betonquest.api.quest.condition.PlayerlessCondition;
 import org.betonquest.betonquest.api.quest.event.Event;
 import org.betonquest.betonquest.instruction.Instruction;
+import org.betonquest.betonquest.quest.condition.PrimaryServerThreadPlayerCondition;
+import org.betonquest.betonquest.quest.condition.PrimaryServerThreadPlayerlessCondition;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
@@ -49,6 +51,17 @@ public class LegacyConditionAdapter extends org.betonquest.betonquest.api.Condit
         persistent = true;
     }
 
+    /**
+     * Checks if the adapted condition is checked on the primary server thread.
+     *
+     * @return true if the adapted condition is synchronized to the primary server thread
+     */
+    @Override
+    public boolean isForceSync() {
+        return playerCondition instanceof PrimaryServerThreadPlayerCondition
+                || playerlessCondition instanceof PrimaryServerThreadPlayerlessCondition;
+    }
+
     @Override
     protected Boolean execute(@Nullable final Profile profile) throws QuestException {
         if (playerCondition == null || profile == null) {
@@ -6,7 +6,10 @@ import org.betonquest.betonquest.api.logger.BetonQuestLogger;
 import org.betonquest.betonquest.api.logger.BetonQuestLoggerFactory;
 import org.betonquest.betonquest.bstats.InstructionMetricsSupplier;
 import org.betonquest.betonquest.config.PluginMessage;
+import org.betonquest.betonquest.id.ConditionID;
+import org.betonquest.betonquest.id.EventID;
 import org.betonquest.betonquest.id.ID;
+import org.betonquest.betonquest.id.ObjectiveID;
 import org.betonquest.betonquest.quest.registry.feature.FeatureRegistries;
 import org.betonquest.betonquest.quest.registry.processor.CancellerProcessor;
 import org.betonquest.betonquest.quest.registry.processor.ConditionProcessor;
@@ -17,7 +20,9 @@ import org.betonquest.betonquest.quest.registry.processor.VariableProcessor;
 import org.betonquest.betonquest.schedule.EventScheduling;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Stores the active Quest Types, Conversations, Quest Canceller and Event Scheduler.
@@ -69,7 +74,7 @@ public class QuestRegistry {
      *
      * @param log                 the custom logger for this registry
      * @param loggerFactory       the logger factory used for new custom logger instances
-     * @param plugin              the plugin used to create new conversation data
+     * @param plugin              the plugin used to create new conversation data and schedule condition checks
      * @param otherRegistries     the available other types
      * @param questTypeRegistries the available quest types
      * @param pluginMessage       the {@link PluginMessage} instance
@@ -78,7 +83,7 @@ public class QuestRegistry {
                          final FeatureRegistries otherRegistries, final QuestTypeRegistries questTypeRegistries, final PluginMessage pluginMessage) {
         this.log = log;
         this.eventScheduling = new EventScheduling(loggerFactory.create(EventScheduling.class, "Schedules"), otherRegistries.eventScheduling());
-        this.conditionProcessor = new ConditionProcessor(loggerFactory.create(ConditionProcessor.class), questTypeRegistries.condition());
+        this.conditionProcessor = new ConditionProcessor(loggerFactory.create(ConditionProcessor.class), questTypeRegistries.condition(), plugin);
         this.eventProcessor = new EventProcessor(loggerFactory.create(EventProcessor.class), questTypeRegistries.event());
         this.objectiveProcessor = new ObjectiveProcessor(loggerFactory.create(ObjectiveProcessor.class), questTypeRegistries.objective());
         this.variableProcessor = new VariableProcessor(loggerFactory.create(VariableProcessor.class), questTypeRegistries.variable());
@@ -90,6 +95,9 @@ public class QuestRegistry {
      * Loads Conditions, Events, Objectives, Variables, Conversations, Quest Canceller and Event Scheduler.
      * <p>
      * Removes previous data and loads the given QuestPackages.
+     * <p>
+     * The instructions of all packages are tokenized in parallel first,
+     * then the objects are created from them on the calling thread.
      *
      * @param packages the quest packages to load
      */
@@ -102,13 +110,18 @@ public class QuestRegistry {
         cancellerProcessor.clear();
         conversationProcessor.clear();
 
-        for (final QuestPackage pack : packages) {
+        final long start = System.nanoTime();
+        final List<PreparedPackage> preparedPackages = packages.parallelStream().map(this::prepare).toList();
+        final long tokenized = System.nanoTime();
+
+        for (final PreparedPackage prepared : preparedPackages) {
+            final QuestPackage pack = prepared.pack();
             final String packName = pack.getQuestPath();
             log.debug(pack, "Loading stuff in package " + packName);
             cancellerProcessor.load(pack);
-            eventProcessor.load(pack);
-            conditionProcessor.load(pack);
-            objectiveProcessor.load(pack);
+            eventProcessor.loadPrepared(prepared.events());
+            conditionProcessor.loadPrepared(prepared.conditions());
+            objectiveProcessor.loadPrepared(prepared.objectives());
             conversationProcessor.load(pack);
             eventScheduling.loadData(pack);
 
@@ -116,6 +129,9 @@ public class QuestRegistry {
         }
 
         conversationProcessor.checkExternalPointers();
+        final long loaded = System.nanoTime();
+        log.debug("Tokenized instructions in " + TimeUnit.NANOSECONDS.toMillis(tokenized - start) + " ms, created objects in "
+                + TimeUnit.NANOSECONDS.toMillis(loaded - tokenized) + " ms");
 
         log.info("There are " + conditionProcessor.size() + " conditions, " + eventProcessor.size() + " events, "
                 + objectiveProcessor.size() + " objectives and " + conversationProcessor.size() + " conversations loaded from "
@@ -124,6 +140,11 @@ public class QuestRegistry {
         eventScheduling.startAll();
     }
 
+    private PreparedPackage prepare(final QuestPackage pack) {
+        return new PreparedPackage(pack, eventProcessor.prepare(pack), conditionProcessor.prepare(pack),
+                objectiveProcessor.prepare(pack));
+    }
+
     /**
      * Gets the bstats metric supplier for registered and active quest types.
      *
@@ -198,4 +219,16 @@ public class QuestRegistry {
     public ConversationProcessor conversations() {
         return conversationProcessor;
     }
+
+    /**
+     * The tokenized instructions of a package.
+     *
+     * @param pack       the package
+     * @param events     the identifiers of the events
+     * @param conditions the identifiers of the conditions
+     * @param objectives the identifiers of the objectives
+     */
+    private record PreparedPackage(QuestPackage pack, List<EventID> events, List<ConditionID> conditions,
+                                   List<ObjectiveID> objectives) {
+    }
 }
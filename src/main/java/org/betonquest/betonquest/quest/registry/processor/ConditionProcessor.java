@@ -9,82 +9,113 @@ import org.betonquest.betonquest.api.quest.QuestException;
 import org.betonquest.betonquest.id.ConditionID;
 import org.betonquest.betonquest.quest.registry.type.ConditionTypeRegistry;
 import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Does the logic around Conditions.
  */
 public class ConditionProcessor extends TypedQuestProcessor<ConditionID, Condition> {
+    /**
+     * The maximum time in seconds to wait for conditions checked on the primary server thread.
+     */
+    private static final long PRIMARY_THREAD_TIMEOUT = 10;
+
+    /**
+     * Batch for conditions which have to be checked on the primary server thread.
+     */
+    private final PrimaryThreadBatch primaryThreadBatch;
+
     /**
      * Create a new Condition Processor to store Conditions and checks them.
      *
      * @param log            the custom logger for this class
      * @param conditionTypes the available condition types
+     * @param plugin         the plugin used to schedule checks on the primary server thread
      */
-    public ConditionProcessor(final BetonQuestLogger log, final ConditionTypeRegistry conditionTypes) {
+    public ConditionProcessor(final BetonQuestLogger log, final ConditionTypeRegistry conditionTypes, final Plugin plugin) {
         super(log, conditionTypes, "Condition", "conditions");
+        this.primaryThreadBatch = new PrimaryThreadBatch(plugin);
     }
 
     @Override
     protected ConditionID getIdentifier(final QuestPackage pack, final String identifier) throws QuestException {
-        return new ConditionID(pack, identifier);
+        return ConditionID.of(pack, identifier);
     }
 
     /**
      * Checks if the conditions described by conditionID are met.
+     * <p>
+     * Off the primary server thread, conditions that can run on any thread are checked directly on the calling thread.
+     * The remaining conditions are checked together in one task on the primary server thread,
+     * shared with the checks of all other threads in the same tick.
+     * If the primary server thread does not check them within {@value #PRIMARY_THREAD_TIMEOUT} seconds,
+     * a warning is logged and they are treated as not met.
      *
      * @param profile      the {@link Profile} of the player which should be checked
      * @param conditionIDs IDs of the conditions to check
      * @return if all conditions are met
      */
-    @SuppressWarnings({"PMD.CognitiveComplexity", "PMD.CyclomaticComplexity"})
     public boolean checks(@Nullable final Profile profile, final ConditionID... conditionIDs) {
         if (Bukkit.isPrimaryThread()) {
-            for (final ConditionID id : conditionIDs) {
-                if (!check(profile, id)) {
-                    return false;
-                }
-            }
-        } else {
-            final List<CompletableFuture<Boolean>> conditions = new ArrayList<>();
-            for (final ConditionID id : conditionIDs) {
-                final CompletableFuture<Boolean> future = CompletableFuture.supplyAsync(
-                        () -> check(profile, id));
-                conditions.add(future);
+            return allMet(profile, Arrays.asList(conditionIDs));
+        }
+        final List<ConditionID> primaryThreadConditions = new ArrayList<>();
+        for (final ConditionID id : conditionIDs) {
+            final Condition condition = values.get(id);
+            if (condition != null && condition.isForceSync()) {
+                primaryThreadConditions.add(id);
+            } else if (!check(profile, id)) {
+                return false;
             }
-            for (final CompletableFuture<Boolean> condition : conditions) {
-                try {
-                    if (!condition.get()) {
-                        return false;
-                    }
-                } catch (final InterruptedException | ExecutionException e) {
-                    // Currently conditions that are forced to be sync cause every CompletableFuture.get() call
-                    // to delay the check by one tick.
-                    // If this happens during a shutdown, the check will be delayed past the last tick.
-                    // This will throw a CancellationException and IllegalPluginAccessExceptions.
-                    // For Paper, we can detect this and only log it to the debug log.
-                    // When the conditions get reworked, this complete check can be removed including the Spigot message.
-                    if (PaperLib.isPaper() && Bukkit.getServer().isStopping()) {
-                        log.debug("Exception during shutdown while checking conditions (expected):", e);
-                        return false;
-                    }
-                    if (PaperLib.isSpigot()) {
-                        log.warn("The following exception is only ok when the server is currently stopping."
-                                + "Switch to papermc.io to fix this.");
-                    }
-                    log.reportException(e);
-                    return false;
-                }
+        }
+        if (primaryThreadConditions.isEmpty()) {
+            return true;
+        }
+        return checkOnPrimaryThread(profile, primaryThreadConditions);
+    }
+
+    private boolean allMet(@Nullable final Profile profile, final List<ConditionID> conditionIDs) {
+        for (final ConditionID id : conditionIDs) {
+            if (!check(profile, id)) {
+                return false;
             }
         }
         return true;
     }
 
+    private boolean checkOnPrimaryThread(@Nullable final Profile profile, final List<ConditionID> conditionIDs) {
+        try {
+            return primaryThreadBatch.submit(() -> allMet(profile, conditionIDs)).get(PRIMARY_THREAD_TIMEOUT, TimeUnit.SECONDS);
+        } catch (final InterruptedException | ExecutionException | TimeoutException e) {
+            // If this happens during a shutdown, the scheduled check will not run anymore.
+            // This will throw IllegalPluginAccessExceptions or let the check time out.
+            // For Paper, we can detect this and only log it to the debug log.
+            if (PaperLib.isPaper() && Bukkit.getServer().isStopping()) {
+                log.debug("Exception during shutdown while checking conditions (expected):", e);
+                return false;
+            }
+            if (e instanceof TimeoutException) {
+                log.warn("The conditions " + conditionIDs + " could not be checked on the primary server thread within "
+                        + PRIMARY_THREAD_TIMEOUT + " seconds, they are treated as not met. Is the server lagging?", e);
+                return false;
+            }
+            if (PaperLib.isSpigot()) {
+                log.warn("The following exception is only ok when the server is currently stopping."
+                        + "Switch to papermc.io to fix this.");
+            }
+            log.reportException(e);
+            return false;
+        }
+    }
+
     /**
      * Checks if the condition described by conditionID is met.
      *
@@ -116,9 +147,11 @@ public class ConditionProcessor extends TypedQuestProcessor<ConditionID, Conditi
             return false;
         }
         final boolean isMet = outcome != conditionID.inverted();
-        log.debug(conditionID.getPackage(),
-                (isMet ? "TRUE" : "FALSE") + ": " + (conditionID.inverted() ? "inverted" : "") + " condition "
-                        + conditionID + " for " + profile);
+        if (log.isDebugEnabled(conditionID.getPackage())) {
+            log.debug(conditionID.getPackage(),
+                    (isMet ? "TRUE" : "FALSE") + ": " + (conditionID.inverted() ? "inverted" : "") + " condition "
+                            + conditionID + " for " + profile);
+        }
         return isMet;
     }
 }
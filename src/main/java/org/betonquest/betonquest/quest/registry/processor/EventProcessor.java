@@ -25,7 +25,7 @@ public class EventProcessor extends TypedQuestProcessor<EventID, QuestEvent> {
 
     @Override
     protected EventID getIdentifier(final QuestPackage pack, final String identifier) throws QuestException {
-        return new EventID(pack, identifier);
+        return EventID.of(pack, identifier);
     }
 
     /**
@@ -42,11 +42,13 @@ public class EventProcessor extends TypedQuestProcessor<EventID, QuestEvent> {
             log.warn(eventID.getPackage(), "Event " + eventID + " is not defined");
             return false;
         }
-        if (profile == null) {
-            log.debug(eventID.getPackage(), "Firing event " + eventID + " player independent");
-        } else {
-            log.debug(eventID.getPackage(),
-                    "Firing event " + eventID + " for " + profile);
+        if (log.isDebugEnabled(eventID.getPackage())) {
+            if (profile == null) {
+                log.debug(eventID.getPackage(), "Firing event " + eventID + " player independent");
+            } else {
+                log.debug(eventID.getPackage(),
+                        "Firing event " + eventID + " for " + profile);
+            }
         }
         try {
             return event.fire(profile);
@@ -1,5 +1,6 @@
 package org.betonquest.betonquest.quest.registry.processor;
 
+import org.betonquest.betonquest.api.ActiveObjectives;
 import org.betonquest.betonquest.api.Objective;
 import org.betonquest.betonquest.api.config.quest.QuestPackage;
 import org.betonquest.betonquest.api.logger.BetonQuestLogger;
@@ -9,7 +10,6 @@ import org.betonquest.betonquest.id.ObjectiveID;
 import org.betonquest.betonquest.quest.registry.type.ObjectiveTypeRegistry;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -36,7 +36,7 @@ public class ObjectiveProcessor extends TypedQuestProcessor<ObjectiveID, Objecti
 
     @Override
     protected ObjectiveID getIdentifier(final QuestPackage pack, final String identifier) throws QuestException {
-        return new ObjectiveID(pack, identifier);
+        return ObjectiveID.of(pack, identifier);
     }
 
     /**
@@ -52,7 +52,7 @@ public class ObjectiveProcessor extends TypedQuestProcessor<ObjectiveID, Objecti
             return;
         }
         if (objective.containsPlayer(profile)) {
-            log.debug(objectiveID.getPackage(), profile + " already has the " + objectiveID + " objective");
+            log.debug(objectiveID.getPackage(), () -> profile + " already has the " + objectiveID + " objective");
             return;
         }
         objective.newPlayer(profile);
@@ -72,7 +72,7 @@ public class ObjectiveProcessor extends TypedQuestProcessor<ObjectiveID, Objecti
             return;
         }
         if (objective.containsPlayer(profile)) {
-            log.debug(objectiveID.getPackage(), profile + " already has the " + objectiveID + " objective!");
+            log.debug(objectiveID.getPackage(), () -> profile + " already has the " + objectiveID + " objective!");
             return;
         }
         objective.resumeObjectiveForPlayer(profile, instruction);
@@ -85,13 +85,7 @@ public class ObjectiveProcessor extends TypedQuestProcessor<ObjectiveID, Objecti
      * @return list of this player's active objectives
      */
     public List<Objective> getActive(final Profile profile) {
-        final List<Objective> list = new ArrayList<>();
-        for (final Objective objective : values.values()) {
-            if (objective.containsPlayer(profile)) {
-                list.add(objective);
-            }
-        }
-        return list;
+        return ActiveObjectives.get(profile);
     }
 
     /**
@@ -0,0 +1,99 @@
+package org.betonquest.betonquest.quest.registry.processor;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Collects tasks submitted from other threads and runs all of them in a single task on the primary server thread.
+ * <p>
+ * At most one task is scheduled at a time, so all tasks submitted during one tick share the same scheduled task.
+ */
+class PrimaryThreadBatch {
+    /**
+     * The plugin used to schedule the task.
+     */
+    private final Plugin plugin;
+
+    /**
+     * The tasks waiting for the next run.
+     */
+    private final Queue<BatchTask<?>> pending;
+
+    /**
+     * If a run is already scheduled.
+     */
+    private final AtomicBoolean scheduled;
+
+    /**
+     * Create a new batch for tasks on the primary server thread.
+     *
+     * @param plugin the plugin used to schedule the task
+     */
+    /* default */ PrimaryThreadBatch(final Plugin plugin) {
+        this.plugin = plugin;
+        this.pending = new ConcurrentLinkedQueue<>();
+        this.scheduled = new AtomicBoolean();
+    }
+
+    /**
+     * Submits a task to run in the next batch on the primary server thread.
+     *
+     * @param task the task to run
+     * @param <T>  the result type of the task
+     * @return the future completed with the result of the task
+     */
+    /* default */ <T> CompletableFuture<T> submit(final Supplier<T> task) {
+        final BatchTask<T> batchTask = new BatchTask<>(task, new CompletableFuture<>());
+        pending.add(batchTask);
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                Bukkit.getScheduler().runTask(plugin, this::run);
+            } catch (final RuntimeException e) {
+                scheduled.set(false);
+                failPending(e);
+            }
+        }
+        return batchTask.future();
+    }
+
+    private void run() {
+        scheduled.set(false);
+        BatchTask<?> task = pending.poll();
+        while (task != null) {
+            task.run();
+            task = pending.poll();
+        }
+    }
+
+    private void failPending(final Throwable cause) {
+        BatchTask<?> task = pending.poll();
+        while (task != null) {
+            task.future().completeExceptionally(cause);
+            task = pending.poll();
+        }
+    }
+
+    /**
+     * A submitted task and the future for its result.
+     *
+     * @param task   the task to run
+     * @param future the future to complete
+     * @param <T>    the result type
+     */
+    private record BatchTask<T>(Supplier<T> task, CompletableFuture<T> future) {
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        private void run() {
+            try {
+                future.complete(task.get());
+            } catch (final RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -8,7 +8,10 @@ import org.betonquest.betonquest.id.ID;
 import org.betonquest.betonquest.quest.registry.FactoryRegistry;
 import org.betonquest.betonquest.quest.registry.type.TypeFactory;
 import org.bukkit.configuration.ConfigurationSection;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -61,33 +64,73 @@ public abstract class TypedQuestProcessor<I extends ID, T> extends QuestProcesso
 
     @Override
     public void load(final QuestPackage pack) {
+        loadPrepared(prepare(pack));
+    }
+
+    /**
+     * Creates the identifiers of all types in a package and tokenizes their instructions.
+     * <p>
+     * This only reads the package and does not create the types, so it can be called from any thread.
+     *
+     * @param pack the package to prepare
+     * @return the identifiers with a type in their instruction
+     */
+    public List<I> prepare(final QuestPackage pack) {
         final ConfigurationSection section = pack.getConfig().getConfigurationSection(internal);
         if (section == null) {
-            return;
+            return List.of();
         }
         final String packName = pack.getQuestPath();
+        final List<I> identifiers = new ArrayList<>();
         for (final String key : section.getKeys(false)) {
             if (key.contains(" ")) {
                 log.warn(pack, readable + " name cannot contain spaces: '" + key + "' (in " + packName + " package)");
-            } else {
-                loadKey(key, pack, packName);
+                continue;
+            }
+            final I identifier = prepareKey(key, pack, packName);
+            if (identifier != null) {
+                identifiers.add(identifier);
             }
         }
+        return identifiers;
     }
 
-    private void loadKey(final String key, final QuestPackage pack, final String packName) {
+    /**
+     * Creates and stores the types of prepared identifiers.
+     *
+     * @param identifiers the identifiers created by {@link #prepare(QuestPackage)}
+     */
+    public void loadPrepared(final List<I> identifiers) {
+        for (final I identifier : identifiers) {
+            loadKey(identifier);
+        }
+    }
+
+    @Nullable
+    private I prepareKey(final String key, final QuestPackage pack, final String packName) {
         final I identifier;
         try {
             identifier = getIdentifier(pack, key);
         } catch (final QuestException e) {
             log.warn(pack, "Error while loading " + readable + " '" + packName + "." + key + "': " + e.getMessage(), e);
-            return;
+            return null;
+        }
+        try {
+            identifier.getInstruction().getPart(0);
+        } catch (final QuestException e) {
+            log.warn(pack, readable + " type not defined in '" + packName + "." + key + "'", e);
+            return null;
         }
+        return identifier;
+    }
+
+    private void loadKey(final I identifier) {
+        final QuestPackage pack = identifier.getPackage();
         final String type;
         try {
             type = identifier.getInstruction().getPart(0);
         } catch (final QuestException e) {
-            log.warn(pack, readable + " type not defined in '" + packName + "." + key + "'", e);
+            log.warn(pack, readable + " type not defined in '" + identifier + "'", e);
             return;
         }
         final TypeFactory<T> factory = types.getFactory(type);
@@ -100,7 +143,7 @@ public abstract class TypedQuestProcessor<I extends ID, T> extends QuestProcesso
         try {
             final T parsed = factory.parseInstruction(identifier.getInstruction());
             values.put(identifier, parsed);
-            log.debug(pack, "  " + readable + " '" + identifier + "' loaded");
+            log.debug(pack, () -> "  " + readable + " '" + identifier + "' loaded");
         } catch (final QuestException e) {
             log.warn(pack, "Error in '" + identifier + "' " + readable + " (" + type + "): " + e.getMessage(), e);
         }
@@ -36,7 +36,7 @@ public class ConditionVariableFactory implements PlayerVariableFactory {
 
     @Override
     public PlayerVariable parsePlayer(final Instruction instruction) throws QuestException {
-        final ConditionID conditionId = instruction.getID(ConditionID::new);
+        final ConditionID conditionId = instruction.getID(ConditionID::of);
         final boolean papiMode = instruction.hasArgument("papiMode");
         return new ConditionVariable(pluginMessage, conditionId, papiMode, questTypeAPI);
     }
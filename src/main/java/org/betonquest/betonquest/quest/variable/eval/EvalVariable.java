@@ -1,5 +1,6 @@
 package org.betonquest.betonquest.quest.variable.eval;
 
+import org.betonquest.betonquest.api.Variable;
 import org.betonquest.betonquest.api.config.quest.QuestPackage;
 import org.betonquest.betonquest.api.profile.Profile;
 import org.betonquest.betonquest.api.quest.QuestException;
@@ -8,10 +9,23 @@ import org.betonquest.betonquest.instruction.variable.VariableString;
 import org.betonquest.betonquest.quest.registry.processor.VariableProcessor;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * A variable which evaluates to another variable.
+ * <p>
+ * The variables the evaluation resolves to are compiled once and kept in a bounded cache,
+ * evicting the least recently used expression once it is full.
  */
+@SuppressWarnings("PMD.AvoidSynchronizedStatement")
 public class EvalVariable implements NullableVariable {
+    /**
+     * The maximum amount of compiled expressions kept per eval variable.
+     */
+    private static final int CACHE_SIZE = 64;
+
     /**
      * The variable processor used to create the evaluated variable.
      */
@@ -27,6 +41,21 @@ public class EvalVariable implements NullableVariable {
      */
     private final VariableString evaluation;
 
+    /**
+     * The compiled expressions by the evaluated input, in access order.
+     */
+    private final Map<String, CompiledExpression> compiled;
+
+    /**
+     * Amount of evaluations that reused a compiled expression.
+     */
+    private final AtomicLong cacheHits;
+
+    /**
+     * Amount of evaluations that had to compile their expression.
+     */
+    private final AtomicLong cacheMisses;
+
     /**
      * Create a new Eval variable.
      *
@@ -38,10 +67,98 @@ public class EvalVariable implements NullableVariable {
         this.variableProcessor = variableProcessor;
         this.pack = pack;
         this.evaluation = evaluation;
+        this.compiled = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, CompiledExpression> eldest) {
+                return size() > CACHE_SIZE;
+            }
+        };
+        this.cacheHits = new AtomicLong();
+        this.cacheMisses = new AtomicLong();
     }
 
     @Override
     public String getValue(@Nullable final Profile profile) throws QuestException {
-        return new VariableString(variableProcessor, pack, "%" + evaluation.getValue(profile) + "%").getValue(profile);
+        return getCompiled(evaluation.getValue(profile)).resolve(profile);
+    }
+
+    private CompiledExpression getCompiled(final String expression) throws QuestException {
+        synchronized (compiled) {
+            final CompiledExpression cached = compiled.get(expression);
+            if (cached != null) {
+                cacheHits.incrementAndGet();
+                return cached;
+            }
+        }
+        cacheMisses.incrementAndGet();
+        final CompiledExpression created = compile(expression);
+        synchronized (compiled) {
+            compiled.put(expression, created);
+        }
+        return created;
+    }
+
+    private CompiledExpression compile(final String expression) throws QuestException {
+        final String input = "%" + expression + "%";
+        if (isPlainReference(expression)) {
+            final Variable variable;
+            try {
+                variable = variableProcessor.create(pack, input);
+            } catch (final QuestException exception) {
+                throw new QuestException("Could not create variable '" + input + "': " + exception.getMessage(), exception);
+            }
+            return variable::getValue;
+        }
+        return new VariableString(variableProcessor, pack, input)::getValue;
+    }
+
+    private static boolean isPlainReference(final String expression) {
+        return !expression.isEmpty() && expression.indexOf('%') == -1 && expression.indexOf('\\') == -1;
+    }
+
+    /**
+     * Gets the share of evaluations that could reuse a compiled expression.
+     *
+     * @return the hit rate between 0 and 1, or 0 if there was no evaluation yet
+     */
+    public double getCacheHitRate() {
+        final long hits = cacheHits.get();
+        final long total = hits + cacheMisses.get();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Gets the amount of evaluations that reused a compiled expression.
+     *
+     * @return the amount of cache hits
+     */
+    public long getCacheHits() {
+        return cacheHits.get();
+    }
+
+    /**
+     * Gets the amount of evaluations that had to compile their expression.
+     *
+     * @return the amount of cache misses
+     */
+    public long getCacheMisses() {
+        return cacheMisses.get();
+    }
+
+    /**
+     * An evaluated expression, compiled to the variables it resolves.
+     */
+    @FunctionalInterface
+    private interface CompiledExpression {
+        /**
+         * Resolves the expression.
+         *
+         * @param profile the profile to resolve the expression for
+         * @return the resolved value
+         * @throws QuestException if the expression could not be resolved
+         */
+        String resolve(@Nullable Profile profile) throws QuestException;
     }
 }
@@ -77,22 +77,11 @@ public class ItemVariable implements NullableVariable {
     private int itemAmount(final Profile profile) {
         final OnlineProfile onlineProfile = profile.getOnlineProfile().get();
         final Player player = onlineProfile.getPlayer();
-        int itemAmount = 0;
-        for (final ItemStack item : player.getInventory().getContents()) {
-            if (item == null || !questItem.compare(item)) {
-                continue;
-            }
-            itemAmount += item.getAmount();
-        }
+        final List<QuestItem> items = List.of(questItem);
+        final int inventoryAmount = QuestItem.countMatching(player.getInventory(), items)[0];
         final List<ItemStack> backpackItems = BetonQuest.getInstance().getPlayerDataStorage()
                 .get(onlineProfile).getBackpack();
-        for (final ItemStack item : backpackItems) {
-            if (item == null || !questItem.compare(item)) {
-                continue;
-            }
-            itemAmount += item.getAmount();
-        }
-        return itemAmount;
+        return inventoryAmount + QuestItem.countMatching(backpackItems, items)[0];
     }
 
     private String conditionalRaw(@Nullable final String string) {
@@ -3,6 +3,7 @@ package org.betonquest.betonquest.quest.variable.math;
 import org.betonquest.betonquest.api.profile.Profile;
 import org.betonquest.betonquest.api.quest.QuestException;
 import org.betonquest.betonquest.api.quest.variable.nullable.NullableVariable;
+import org.betonquest.betonquest.util.math.Program;
 import org.betonquest.betonquest.util.math.tokens.Token;
 import org.jetbrains.annotations.Nullable;
 
@@ -14,10 +15,10 @@ import java.util.Locale;
 public class MathVariable implements NullableVariable {
 
     /**
-     * The full calculation token.
+     * The full calculation, compiled into a program.
      */
     @SuppressWarnings("deprecation")
-    private final Token calculation;
+    private final Program calculation;
 
     /**
      * Create a math variable from the given calculation.
@@ -26,12 +27,12 @@ public class MathVariable implements NullableVariable {
      */
     @SuppressWarnings("deprecation")
     public MathVariable(final Token calculation) {
-        this.calculation = calculation;
+        this.calculation = Program.compile(calculation);
     }
 
     @Override
     public String getValue(@Nullable final Profile profile) throws QuestException {
-        final double value = this.calculation.resolve(profile);
+        final double value = this.calculation.evaluate(profile);
         if (value % 1 == 0) {
             return String.format(Locale.US, "%.0f", value);
         }
@@ -44,7 +44,7 @@ public class ObjectivePropertyVariableFactory implements PlayerVariableFactory {
 
         final ObjectiveID objectiveID;
         try {
-            objectiveID = new ObjectiveID(instruction.getPackage(), objectiveString.toString());
+            objectiveID = ObjectiveID.of(instruction.getPackage(), objectiveString.toString());
         } catch (final QuestException e) {
             throw new QuestException("Error in objective property variable '" + instruction + "' " + e.getMessage(), e);
         }
@@ -13,11 +13,14 @@ import org.bukkit.block.data.BlockData;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -33,9 +36,17 @@ import java.util.regex.PatternSyntaxException;
  * - material - The material the block is made of. Regex and Tags are allowed
  * - state - (optional) The block states can be provided in a comma separated `key=value` list surrounded by square
  * brackets. Regex allowed
+ * <p>
+ * The selector is compiled once: materials are matched with an {@link EnumSet}, state regexes are precompiled
+ * and the state match results are cached per {@link BlockData}.
  */
 @SuppressWarnings({"PMD.CommentRequired", "PMD.GodClass"})
 public class BlockSelector {
+    /**
+     * The maximum amount of cached state match results before the cache is cleared.
+     */
+    private static final int MAX_CACHED_STATES = 1024;
+
     /**
      * Custom {@link BetonQuestLogger} instance for this class.
      */
@@ -43,8 +54,20 @@ public class BlockSelector {
 
     private final List<Material> materials;
 
+    private final Set<Material> materialSet;
+
     private final Map<String, String> states;
 
+    /**
+     * The precompiled state values by state name, matched literally first and as regex otherwise.
+     */
+    private final Map<String, StatePattern> statePatterns;
+
+    /**
+     * The cached state match results per {@link BlockData}.
+     */
+    private final Map<BlockData, StateMatch> stateMatches = new ConcurrentHashMap<>();
+
     private final Random random = new Random();
 
     /**
@@ -61,6 +84,8 @@ public class BlockSelector {
         if (materials.isEmpty()) {
             throw new QuestException("Invalid selector, no material found for '" + block + "'!");
         }
+        materialSet = EnumSet.copyOf(materials);
+        statePatterns = compileStates(states);
     }
 
     /**
@@ -156,7 +181,7 @@ public class BlockSelector {
      * @return True if the {@link Material} is represented by this {@link BlockSelector}
      */
     public boolean match(final Material material) {
-        return materials.contains(material);
+        return materialSet.contains(material);
     }
 
     /**
@@ -169,35 +194,46 @@ public class BlockSelector {
      * @return True if the {@link Material} is represented by this {@link BlockSelector} and the {@link BlockState} matches.
      */
     public boolean match(final Block block, final boolean exactMatch) {
-        if (!match(block.getBlockData().getMaterial())) {
+        final BlockData blockData = block.getBlockData();
+        if (!match(blockData.getMaterial())) {
             return false;
         }
-
-        final Map<String, String> blockStates = getStates(getSelectorParts(block.getBlockData().getAsString())[2]);
-        if (states.isEmpty()) {
-            return !exactMatch || blockStates.isEmpty();
+        if (states.isEmpty() && !exactMatch) {
+            return true;
         }
-        if (exactMatch && states.size() != blockStates.size()) {
-            return false;
+        StateMatch stateMatch = stateMatches.get(blockData);
+        if (stateMatch == null) {
+            stateMatch = matchStates(blockData);
+            if (stateMatches.size() >= MAX_CACHED_STATES) {
+                stateMatches.clear();
+            }
+            stateMatches.put(blockData, stateMatch);
         }
+        return exactMatch ? stateMatch.exact() : stateMatch.partial();
+    }
 
-        for (final Map.Entry<String, String> entry : states.entrySet()) {
-            final String singleState = entry.getKey();
-            if (!blockStates.containsKey(singleState)) {
-                return false;
+    private StateMatch matchStates(final BlockData blockData) {
+        final Map<String, String> blockStates = getStates(getSelectorParts(blockData.getAsString())[2]);
+        for (final Map.Entry<String, StatePattern> entry : statePatterns.entrySet()) {
+            final String blockState = blockStates.get(entry.getKey());
+            if (blockState == null || !entry.getValue().matches(blockState)) {
+                return StateMatch.NONE;
             }
+        }
+        return states.size() == blockStates.size() ? StateMatch.EXACT : StateMatch.PARTIAL;
+    }
 
-            final String blockState = blockStates.get(singleState);
+    private Map<String, StatePattern> compileStates(final Map<String, String> states) throws QuestException {
+        final Map<String, StatePattern> patterns = new HashMap<>();
+        for (final Map.Entry<String, String> entry : states.entrySet()) {
             final String state = entry.getValue();
-            if (!blockState.equals(state)) {
-                final Pattern statePattern = Pattern.compile("^" + state + "$");
-                final Matcher stateMatcher = statePattern.matcher(blockState);
-                if (!stateMatcher.find()) {
-                    return false;
-                }
+            try {
+                patterns.put(entry.getKey(), new StatePattern(state, Pattern.compile("^" + state + "$")));
+            } catch (final PatternSyntaxException exception) {
+                throw new QuestException("Invalid Regex: " + exception.getMessage(), exception);
             }
         }
-        return true;
+        return patterns;
     }
 
     private String[] getSelectorParts(final String selector) {
@@ -298,4 +334,39 @@ public class BlockSelector {
         }
         return states;
     }
+
+    /**
+     * A precompiled state value.
+     *
+     * @param value   the literal value
+     * @param pattern the value as pattern
+     */
+    private record StatePattern(String value, Pattern pattern) {
+        private boolean matches(final String blockState) {
+            return value.equals(blockState) || pattern.matcher(blockState).find();
+        }
+    }
+
+    /**
+     * The result of matching the states of a {@link BlockData}.
+     *
+     * @param partial if all states of the selector match
+     * @param exact   if all states match and the block has no other states
+     */
+    private record StateMatch(boolean partial, boolean exact) {
+        /**
+         * Not all states of the selector match.
+         */
+        private static final StateMatch NONE = new StateMatch(false, false);
+
+        /**
+         * All states of the selector match, but the block has more states.
+         */
+        private static final StateMatch PARTIAL = new StateMatch(true, false);
+
+        /**
+         * All states match and the block has no other states.
+         */
+        private static final StateMatch EXACT = new StateMatch(true, true);
+    }
 }
@@ -7,9 +7,11 @@ import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Converts the player to the Profile
@@ -17,6 +19,11 @@ import java.util.UUID;
 @SuppressWarnings({"PMD.ClassNamingConventions", "PMD.CommentRequired"})
 public final class PlayerConverter {
 
+    /**
+     * The canonical profiles of online players by their UUID.
+     */
+    private static final Map<UUID, CanonicalOnlineProfile> ONLINE_PROFILES = new ConcurrentHashMap<>();
+
     private PlayerConverter() {
     }
 
@@ -72,50 +79,34 @@ public final class PlayerConverter {
 
     /**
      * Returns the {@link OnlineProfile} of the passed {@link Player}.
+     * <p>
+     * The same instance is returned for a player until they leave the server,
+     * so profiles of online players can be compared by identity.
+     * Profiles of players that already left are not cached.
      *
      * @param player - Player object to get the Profile from
      * @return profile of the player
      */
     public static OnlineProfile getID(final Player player) {
-        return new OnlineProfile() {
-            @Override
-            public Player getPlayer() {
-                return player;
-            }
-
-            @Override
-            public UUID getProfileUUID() {
-                return player.getUniqueId();
-            }
-
-            @Override
-            public String getProfileName() {
-                return player.getName();
-            }
-
-            @Override
-            public Optional<OnlineProfile> getOnlineProfile() {
-                if (player.isOnline()) {
-                    return Optional.of(this);
-                }
-                return Optional.empty();
-            }
-
-            @Override
-            public String toString() {
-                return player.getName() + " with profile " + this.getProfileName();
-            }
-
-            @Override
-            public boolean equals(final Object obj) {
-                return obj instanceof Profile profile && getProfileUUID().equals(profile.getProfileUUID());
-            }
+        final UUID uuid = player.getUniqueId();
+        final CanonicalOnlineProfile cached = ONLINE_PROFILES.get(uuid);
+        if (cached != null && cached.player == player) {
+            return cached;
+        }
+        if (!player.isOnline()) {
+            return new CanonicalOnlineProfile(player, uuid);
+        }
+        return ONLINE_PROFILES.compute(uuid, (key, current) ->
+                current != null && current.player == player ? current : new CanonicalOnlineProfile(player, key));
+    }
 
-            @Override
-            public int hashCode() {
-                return Objects.hashCode(getProfileUUID());
-            }
-        };
+    /**
+     * Removes the cached {@link OnlineProfile} of a player leaving the server.
+     *
+     * @param player the player leaving the server
+     */
+    public static void removeProfile(final Player player) {
+        ONLINE_PROFILES.computeIfPresent(player.getUniqueId(), (uuid, profile) -> profile.player == player ? null : profile);
     }
 
     /**
@@ -126,4 +117,73 @@ public final class PlayerConverter {
     public static List<OnlineProfile> getOnlineProfiles() {
         return Bukkit.getOnlinePlayers().stream().map(PlayerConverter::getID).toList();
     }
+
+    /**
+     * The single {@link OnlineProfile} of a player for one session, with its UUID and hash resolved once.
+     */
+    private static final class CanonicalOnlineProfile implements OnlineProfile {
+        /**
+         * The player of this profile.
+         */
+        private final Player player;
+
+        /**
+         * The UUID of the player.
+         */
+        private final UUID uuid;
+
+        /**
+         * The hash of the UUID.
+         */
+        private final int hash;
+
+        private CanonicalOnlineProfile(final Player player, final UUID uuid) {
+            this.player = player;
+            this.uuid = uuid;
+            this.hash = uuid.hashCode();
+        }
+
+        @Override
+        public Player getPlayer() {
+            return player;
+        }
+
+        @Override
+        public UUID getProfileUUID() {
+            return uuid;
+        }
+
+        @Override
+        public UUID getPlayerUUID() {
+            return uuid;
+        }
+
+        @Override
+        public String getProfileName() {
+            return player.getName();
+        }
+
+        @Override
+        public Optional<OnlineProfile> getOnlineProfile() {
+            if (player.isOnline()) {
+                return Optional.of(this);
+            }
+            return Optional.empty();
+        }
+
+        @Override
+        public String toString() {
+            return player.getName() + " with profile " + this.getProfileName();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return this == obj || obj instanceof final Profile profile && uuid.equals(profile.getProfileUUID());
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
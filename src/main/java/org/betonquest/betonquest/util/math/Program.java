@@ -0,0 +1,329 @@
+package org.betonquest.betonquest.util.math;
+
+import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.api.quest.QuestException;
+import org.betonquest.betonquest.util.math.tokens.Token;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link Token} tree compiled into a flat stack program.
+ * <p>
+ * Constant subexpressions are folded while compiling, so only the parts depending on variables remain.
+ * Each distinct variable is resolved once per evaluation, then the program runs over primitive doubles
+ * without walking the token tree.
+ *
+ * @deprecated This should be replaced in BQ 2.0 with a real expression parsing lib like
+ * <a href="https://github.com/fasseg/exp4j">fasseg/exp4j</a>
+ */
+@Deprecated
+public final class Program {
+    /**
+     * Pushes a constant.
+     */
+    private static final byte CONSTANT = 0;
+
+    /**
+     * Pushes the value of a variable.
+     */
+    private static final byte VARIABLE = 1;
+
+    /**
+     * Negates the top value.
+     */
+    private static final byte NEGATE = 2;
+
+    /**
+     * Replaces the top value with its absolute value.
+     */
+    private static final byte ABSOLUTE = 3;
+
+    /**
+     * Adds the two top values.
+     */
+    private static final byte ADD = 4;
+
+    /**
+     * Subtracts the top value from the value below.
+     */
+    private static final byte SUBTRACT = 5;
+
+    /**
+     * Multiplies the two top values.
+     */
+    private static final byte MULTIPLY = 6;
+
+    /**
+     * Divides the value below by the top value.
+     */
+    private static final byte DIVIDE = 7;
+
+    /**
+     * Applies the {@link Operator} of the operand to the two top values.
+     */
+    private static final byte OPERATOR = 8;
+
+    /**
+     * All operators by their ordinal.
+     */
+    private static final Operator[] OPERATORS = Operator.values();
+
+    /**
+     * The operation codes.
+     */
+    private final byte[] codes;
+
+    /**
+     * The operand of each operation code, an index into the constants, variables or operators.
+     */
+    private final int[] operands;
+
+    /**
+     * The folded constants.
+     */
+    private final double[] constants;
+
+    /**
+     * The distinct variables, resolved before running the program.
+     */
+    private final Token[] variables;
+
+    /**
+     * The maximum amount of values on the stack.
+     */
+    private final int stackSize;
+
+    private Program(final byte[] codes, final int[] operands, final double[] constants, final Token[] variables,
+                    final int stackSize) {
+        this.codes = codes;
+        this.operands = operands;
+        this.constants = constants;
+        this.variables = variables;
+        this.stackSize = stackSize;
+    }
+
+    /**
+     * Compiles a token tree into a program.
+     *
+     * @param token the token tree to compile
+     * @return the compiled program
+     */
+    public static Program compile(final Token token) {
+        final Builder builder = new Builder();
+        token.compile(builder);
+        return builder.build();
+    }
+
+    /**
+     * Checks if the program always evaluates to the same value.
+     *
+     * @return true if the program contains no variables
+     */
+    public boolean isConstant() {
+        return variables.length == 0;
+    }
+
+    /**
+     * Evaluates the program.
+     *
+     * @param profile the {@link Profile} to resolve the variables for
+     * @return the result
+     * @throws QuestException if a variable could not be resolved
+     */
+    @SuppressWarnings({"PMD.CyclomaticComplexity", "PMD.AssignmentInOperand"})
+    public double evaluate(@Nullable final Profile profile) throws QuestException {
+        final double[] values = new double[variables.length];
+        for (int i = 0; i < variables.length; i++) {
+            values[i] = variables[i].resolve(profile);
+        }
+        final double[] stack = new double[stackSize];
+        int top = -1;
+        for (int index = 0; index < codes.length; index++) {
+            switch (codes[index]) {
+                case CONSTANT -> stack[++top] = constants[operands[index]];
+                case VARIABLE -> stack[++top] = values[operands[index]];
+                case NEGATE -> stack[top] = -stack[top];
+                case ABSOLUTE -> stack[top] = Math.abs(stack[top]);
+                case ADD -> {
+                    top--;
+                    stack[top] += stack[top + 1];
+                }
+                case SUBTRACT -> {
+                    top--;
+                    stack[top] -= stack[top + 1];
+                }
+                case MULTIPLY -> {
+                    top--;
+                    stack[top] *= stack[top + 1];
+                }
+                case DIVIDE -> {
+                    top--;
+                    stack[top] /= stack[top + 1];
+                }
+                default -> {
+                    top--;
+                    stack[top] = OPERATORS[operands[index]].calculate(stack[top], stack[top + 1]);
+                }
+            }
+        }
+        return stack[0];
+    }
+
+    /**
+     * Collects the operations of a token tree in postfix order and folds constants while doing so.
+     *
+     * @deprecated This should be replaced in BQ 2.0 with a real expression parsing lib like
+     * <a href="https://github.com/fasseg/exp4j">fasseg/exp4j</a>
+     */
+    @Deprecated
+    public static final class Builder {
+        /**
+         * The operation codes.
+         */
+        private final List<Byte> codes;
+
+        /**
+         * The operand of each operation code.
+         */
+        private final List<Integer> operands;
+
+        /**
+         * The constants.
+         */
+        private final List<Double> constants;
+
+        /**
+         * The distinct variables.
+         */
+        private final List<Token> variables;
+
+        /**
+         * The index of each named variable.
+         */
+        private final Map<String, Integer> variableIndices;
+
+        private Builder() {
+            codes = new ArrayList<>();
+            operands = new ArrayList<>();
+            constants = new ArrayList<>();
+            variables = new ArrayList<>();
+            variableIndices = new HashMap<>();
+        }
+
+        /**
+         * Pushes a constant value.
+         *
+         * @param value the value
+         */
+        public void constant(final double value) {
+            constants.add(value);
+            emit(CONSTANT, constants.size() - 1);
+        }
+
+        /**
+         * Pushes the value of a token that can only be resolved at runtime.
+         * Tokens with the same name are resolved only once per evaluation.
+         *
+         * @param name  the name identifying the resolved value, or null if it must not be shared
+         * @param token the token to resolve
+         */
+        public void variable(@Nullable final String name, final Token token) {
+            if (name == null) {
+                variables.add(token);
+                emit(VARIABLE, variables.size() - 1);
+                return;
+            }
+            final Integer known = variableIndices.get(name);
+            if (known != null) {
+                emit(VARIABLE, known);
+                return;
+            }
+            variables.add(token);
+            variableIndices.put(name, variables.size() - 1);
+            emit(VARIABLE, variables.size() - 1);
+        }
+
+        /**
+         * Negates the last pushed value.
+         */
+        public void negate() {
+            if (isConstant(1)) {
+                constant(-popConstant());
+                return;
+            }
+            emit(NEGATE, 0);
+        }
+
+        /**
+         * Replaces the last pushed value with its absolute value.
+         */
+        public void absolute() {
+            if (isConstant(1)) {
+                constant(Math.abs(popConstant()));
+                return;
+            }
+            emit(ABSOLUTE, 0);
+        }
+
+        /**
+         * Applies an operator to the two last pushed values.
+         *
+         * @param operator the operator
+         */
+        public void operation(final Operator operator) {
+            if (isConstant(1) && isConstant(2)) {
+                final double val2 = popConstant();
+                final double val1 = popConstant();
+                constant(operator.calculate(val1, val2));
+                return;
+            }
+            switch (operator) {
+                case PLUS -> emit(ADD, 0);
+                case MINUS -> emit(SUBTRACT, 0);
+                case MULTIPLY -> emit(MULTIPLY, 0);
+                case DIVIDE -> emit(DIVIDE, 0);
+                default -> emit(OPERATOR, operator.ordinal());
+            }
+        }
+
+        private void emit(final byte code, final int operand) {
+            codes.add(code);
+            operands.add(operand);
+        }
+
+        private boolean isConstant(final int fromEnd) {
+            final int index = codes.size() - fromEnd;
+            return index >= 0 && codes.get(index) == CONSTANT;
+        }
+
+        private double popConstant() {
+            final int last = codes.size() - 1;
+            codes.remove(last);
+            operands.remove(last);
+            return constants.remove(constants.size() - 1);
+        }
+
+        private Program build() {
+            final byte[] codeArray = new byte[codes.size()];
+            final int[] operandArray = new int[operands.size()];
+            int depth = 0;
+            int stackSize = 0;
+            for (int i = 0; i < codeArray.length; i++) {
+                codeArray[i] = codes.get(i);
+                operandArray[i] = operands.get(i);
+                if (codeArray[i] == CONSTANT || codeArray[i] == VARIABLE) {
+                    depth++;
+                    stackSize = Math.max(stackSize, depth);
+                } else if (codeArray[i] != NEGATE && codeArray[i] != ABSOLUTE) {
+                    depth--;
+                }
+            }
+            final double[] constantArray = constants.stream().mapToDouble(Double::doubleValue).toArray();
+            return new Program(codeArray, operandArray, constantArray, variables.toArray(new Token[0]), stackSize);
+        }
+    }
+}
@@ -118,7 +118,8 @@ public class Tokenizer {
             final String variableName = ESCAPE_REGEX.matcher(rawVariableName).replaceAll("$1");
 
             try {
-                nextInLine = new Variable(new VariableNumber(variableProcessor, pack, "%" + variableName + "%"));
+                final String input = "%" + variableName + "%";
+                nextInLine = new Variable(new VariableNumber(variableProcessor, pack, input), input);
             } catch (final QuestException e) {
                 throw new QuestException("invalid calculation (" + e.getMessage() + ")", e);
             }
@@ -161,7 +162,8 @@ public class Tokenizer {
                 }
             }
             try {
-                nextInLine = new Variable(new VariableNumber(variableProcessor, pack, "%" + val2.substring(start, index--) + "%"));
+                final String input = "%" + val2.substring(start, index--) + "%";
+                nextInLine = new Variable(new VariableNumber(variableProcessor, pack, input), input);
             } catch (final QuestException e) {
                 throw new QuestException("invalid calculation (" + e.getMessage() + ")", e);
             }
@@ -2,6 +2,7 @@ package org.betonquest.betonquest.util.math.tokens;
 
 import org.betonquest.betonquest.api.profile.Profile;
 import org.betonquest.betonquest.api.quest.QuestException;
+import org.betonquest.betonquest.util.math.Program;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -32,6 +33,12 @@ public class AbsoluteValue implements Token {
         return Math.abs(inside.resolve(profile));
     }
 
+    @Override
+    public void compile(final Program.Builder builder) {
+        inside.compile(builder);
+        builder.absolute();
+    }
+
     @Override
     public String toString() {
         return '|' + inside.toString() + '|';
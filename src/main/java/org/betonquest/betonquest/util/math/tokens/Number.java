@@ -1,6 +1,7 @@
 package org.betonquest.betonquest.util.math.tokens;
 
 import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.util.math.Program;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -31,6 +32,11 @@ public class Number implements Token {
         return value;
     }
 
+    @Override
+    public void compile(final Program.Builder builder) {
+        builder.constant(value);
+    }
+
     @Override
     public String toString() {
         return String.valueOf(value);
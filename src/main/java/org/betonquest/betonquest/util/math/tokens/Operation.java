@@ -3,6 +3,7 @@ package org.betonquest.betonquest.util.math.tokens;
 import org.betonquest.betonquest.api.profile.Profile;
 import org.betonquest.betonquest.api.quest.QuestException;
 import org.betonquest.betonquest.util.math.Operator;
+import org.betonquest.betonquest.util.math.Program;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -47,6 +48,13 @@ public class Operation implements Token {
         return operator.calculate(val1.resolve(profile), val2.resolve(profile));
     }
 
+    @Override
+    public void compile(final Program.Builder builder) {
+        val1.compile(builder);
+        val2.compile(builder);
+        builder.operation(operator);
+    }
+
     @Override
     public String toString() {
         return val1.toString() + operator + val2;
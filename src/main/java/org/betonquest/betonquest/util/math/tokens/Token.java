@@ -2,6 +2,7 @@ package org.betonquest.betonquest.util.math.tokens;
 
 import org.betonquest.betonquest.api.profile.Profile;
 import org.betonquest.betonquest.api.quest.QuestException;
+import org.betonquest.betonquest.util.math.Program;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -22,4 +23,14 @@ public interface Token {
      * @throws QuestException if the Token contained variables that could not be resolved
      */
     double resolve(@Nullable Profile profile) throws QuestException;
+
+    /**
+     * Compiles this token into a {@link Program}.
+     * By default, the token is resolved at runtime as a whole.
+     *
+     * @param builder the builder to add the operations of this token to
+     */
+    default void compile(final Program.Builder builder) {
+        builder.variable(null, this);
+    }
 }
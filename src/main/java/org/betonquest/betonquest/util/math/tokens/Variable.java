@@ -3,6 +3,7 @@ package org.betonquest.betonquest.util.math.tokens;
 import org.betonquest.betonquest.api.profile.Profile;
 import org.betonquest.betonquest.api.quest.QuestException;
 import org.betonquest.betonquest.instruction.variable.VariableNumber;
+import org.betonquest.betonquest.util.math.Program;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -19,13 +20,30 @@ public class Variable implements Token {
      */
     private final VariableNumber variableNumber;
 
+    /**
+     * The variable input, identifying variables that resolve to the same value.
+     */
+    @Nullable
+    private final String name;
+
     /**
      * Creates a new variable token from a variable number.
      *
      * @param variableNumber underlying variable
      */
     public Variable(final VariableNumber variableNumber) {
+        this(variableNumber, null);
+    }
+
+    /**
+     * Creates a new variable token from a variable number and the input it was created from.
+     *
+     * @param variableNumber underlying variable
+     * @param name           the variable input, or null if it should not be shared with equal variables
+     */
+    public Variable(final VariableNumber variableNumber, @Nullable final String name) {
         this.variableNumber = variableNumber;
+        this.name = name;
     }
 
     @Override
@@ -33,6 +51,11 @@ public class Variable implements Token {
         return variableNumber.getValue(profile).doubleValue();
     }
 
+    @Override
+    public void compile(final Program.Builder builder) {
+        builder.variable(name, this);
+    }
+
     @Override
     public String toString() {
         return variableNumber.toString();
@@ -0,0 +1,40 @@
+package org.betonquest.betonquest.api;
+
+import org.betonquest.betonquest.api.profile.Profile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test {@link ActiveObjectives}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ActiveObjectivesTest {
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    @Test
+    void testObjectivesAreIndexedPerProfile(@Mock final Profile profile, @Mock final Profile other,
+                                            @Mock final Objective first, @Mock final Objective second) {
+        ActiveObjectives.add(profile, first);
+        ActiveObjectives.add(profile, second);
+        ActiveObjectives.add(other, second);
+        try {
+            final List<Objective> active = ActiveObjectives.get(profile);
+            assertEquals(2, active.size(), "Both objectives of the profile should be active");
+            assertTrue(active.containsAll(List.of(first, second)), "The started objectives should be active");
+            assertEquals(List.of(second), ActiveObjectives.get(other), "Only the objective of the other profile should be active");
+
+            ActiveObjectives.remove(profile, first);
+            assertEquals(List.of(second), ActiveObjectives.get(profile), "The stopped objective should not be active");
+        } finally {
+            ActiveObjectives.remove(profile, first);
+            ActiveObjectives.remove(profile, second);
+            ActiveObjectives.remove(other, second);
+        }
+        assertTrue(ActiveObjectives.get(profile).isEmpty(), "No objective should be active after stopping all");
+    }
+}
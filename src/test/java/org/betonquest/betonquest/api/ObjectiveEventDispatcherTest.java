@@ -0,0 +1,134 @@
+package org.betonquest.betonquest.api;
+
+import org.betonquest.betonquest.BetonQuest;
+import org.betonquest.betonquest.api.profile.OnlineProfile;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.EventExecutor;
+import org.bukkit.plugin.PluginManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link ObjectiveEventDispatcher}.
+ */
+@ExtendWith(MockitoExtension.class)
+class ObjectiveEventDispatcherTest {
+    private static final Function<PlayerQuitEvent, Player> EXTRACTOR = PlayerQuitEvent::getPlayer;
+
+    private static EventExecutor captureExecutor(final PluginManager pluginManager, final ArgumentCaptor<Listener> listener) {
+        final ArgumentCaptor<EventExecutor> executor = ArgumentCaptor.forClass(EventExecutor.class);
+        verify(pluginManager).registerEvent(eq(PlayerQuitEvent.class), listener.capture(), eq(EventPriority.NORMAL),
+                executor.capture(), any(), eq(false));
+        return executor.getValue();
+    }
+
+    private static PlayerQuitEvent quitEvent(final Player player) {
+        final PlayerQuitEvent event = mock(PlayerQuitEvent.class);
+        when(event.getPlayer()).thenReturn(player);
+        return event;
+    }
+
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    @Test
+    void testHandlerIsOnlyCalledForSubscribedPlayers(@Mock final PluginManager pluginManager, @Mock final Player player,
+                                                     @Mock final Player other) throws Exception {
+        try (MockedStatic<Bukkit> bukkit = mockStatic(Bukkit.class);
+             MockedStatic<BetonQuest> ignored = mockStatic(BetonQuest.class);
+             MockedStatic<HandlerList> ignoredHandlerList = mockStatic(HandlerList.class)) {
+            bukkit.when(Bukkit::getPluginManager).thenReturn(pluginManager);
+            final UUID uuid = UUID.randomUUID();
+            when(player.getUniqueId()).thenReturn(uuid);
+            when(other.getUniqueId()).thenReturn(UUID.randomUUID());
+            final List<OnlineProfile> handled = new ArrayList<>();
+
+            final ObjectiveEventDispatcher.Subscription<PlayerQuitEvent> subscription = ObjectiveEventDispatcher.subscribe(
+                    PlayerQuitEvent.class, EventPriority.NORMAL, false, EXTRACTOR, (event, profile) -> handled.add(profile));
+            subscription.add(uuid);
+            final ArgumentCaptor<Listener> listener = ArgumentCaptor.forClass(Listener.class);
+            final EventExecutor executor = captureExecutor(pluginManager, listener);
+
+            executor.execute(listener.getValue(), quitEvent(other));
+            assertTrue(handled.isEmpty(), "Handler should not be called for players without the objective");
+            executor.execute(listener.getValue(), quitEvent(player));
+            assertEquals(1, handled.size(), "Handler should be called for players with the objective");
+            assertEquals(uuid, handled.get(0).getProfileUUID(), "Handler should receive the profile of the player");
+
+            subscription.remove(uuid);
+            executor.execute(listener.getValue(), quitEvent(player));
+            assertEquals(1, handled.size(), "Handler should not be called after the player was removed");
+            subscription.close();
+        }
+    }
+
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    @Test
+    void testHandlerIsNotCalledAfterEarlierHandlerRemovedPlayer(@Mock final PluginManager pluginManager,
+                                                                @Mock final Player player) throws Exception {
+        try (MockedStatic<Bukkit> bukkit = mockStatic(Bukkit.class);
+             MockedStatic<BetonQuest> ignored = mockStatic(BetonQuest.class);
+             MockedStatic<HandlerList> ignoredHandlerList = mockStatic(HandlerList.class)) {
+            bukkit.when(Bukkit::getPluginManager).thenReturn(pluginManager);
+            final UUID uuid = UUID.randomUUID();
+            when(player.getUniqueId()).thenReturn(uuid);
+            final List<String> handled = new ArrayList<>();
+
+            final List<ObjectiveEventDispatcher.Subscription<PlayerQuitEvent>> later = new ArrayList<>();
+            final ObjectiveEventDispatcher.Subscription<PlayerQuitEvent> first = ObjectiveEventDispatcher.subscribe(
+                    PlayerQuitEvent.class, EventPriority.NORMAL, false, EXTRACTOR, (event, profile) -> {
+                        handled.add("first");
+                        later.get(0).remove(uuid);
+                    });
+            later.add(ObjectiveEventDispatcher.subscribe(PlayerQuitEvent.class, EventPriority.NORMAL, false, EXTRACTOR,
+                    (event, profile) -> handled.add("second")));
+            first.add(uuid);
+            later.get(0).add(uuid);
+            final ArgumentCaptor<Listener> listener = ArgumentCaptor.forClass(Listener.class);
+            final EventExecutor executor = captureExecutor(pluginManager, listener);
+
+            executor.execute(listener.getValue(), quitEvent(player));
+            assertEquals(List.of("first"), handled, "Handler of a removed player should not be called");
+            first.close();
+            later.get(0).close();
+        }
+    }
+
+    @Test
+    void testRouteIsSharedAndUnregisteredWithLastSubscription(@Mock final PluginManager pluginManager) {
+        try (MockedStatic<Bukkit> bukkit = mockStatic(Bukkit.class);
+             MockedStatic<BetonQuest> ignored = mockStatic(BetonQuest.class);
+             MockedStatic<HandlerList> handlerList = mockStatic(HandlerList.class)) {
+            bukkit.when(Bukkit::getPluginManager).thenReturn(pluginManager);
+
+            final ObjectiveEventDispatcher.Subscription<PlayerQuitEvent> first = ObjectiveEventDispatcher.subscribe(
+                    PlayerQuitEvent.class, EventPriority.NORMAL, false, EXTRACTOR, (event, profile) -> {
+                    });
+            final ObjectiveEventDispatcher.Subscription<PlayerQuitEvent> second = ObjectiveEventDispatcher.subscribe(
+                    PlayerQuitEvent.class, EventPriority.NORMAL, false, event -> event.getPlayer(), (event, profile) -> {
+                    });
+            final ArgumentCaptor<Listener> listener = ArgumentCaptor.forClass(Listener.class);
+            captureExecutor(pluginManager, listener);
+
+            first.close();
+            handlerList.verifyNoInteractions();
+            second.close();
+            handlerList.verify(() -> HandlerList.unregisterAll(listener.getValue()));
+        }
+    }
+}
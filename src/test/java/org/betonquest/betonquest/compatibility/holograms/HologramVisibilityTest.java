@@ -0,0 +1,55 @@
+package org.betonquest.betonquest.compatibility.holograms;
+
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link HologramVisibility}.
+ */
+@ExtendWith(MockitoExtension.class)
+class HologramVisibilityTest {
+    @Test
+    void testUnchangedVisibilityIsSentOnce(@Mock final BetonHologram hologram, @Mock final Player player) {
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        final HologramVisibility visibility = new HologramVisibility();
+        visibility.apply(hologram, player, true);
+        visibility.apply(hologram, player, true);
+        visibility.apply(hologram, player, false);
+        verify(hologram).show(player);
+        verify(hologram).hide(player);
+    }
+
+    @Test
+    void testForgottenHologramIsSentAgain(@Mock final BetonHologram hologram, @Mock final Player player) {
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        final HologramVisibility visibility = new HologramVisibility();
+        visibility.apply(hologram, player, true);
+        visibility.forget(hologram);
+        visibility.apply(hologram, player, true);
+        verify(hologram, times(2)).show(player);
+    }
+
+    @Test
+    void testPlayersNotRetainedAreSentAgain(@Mock final BetonHologram hologram, @Mock final Player near,
+                                            @Mock final Player far) {
+        final UUID nearID = UUID.randomUUID();
+        when(near.getUniqueId()).thenReturn(nearID);
+        when(far.getUniqueId()).thenReturn(UUID.randomUUID());
+        final HologramVisibility visibility = new HologramVisibility();
+        visibility.apply(hologram, near, false);
+        visibility.apply(hologram, far, false);
+        visibility.retain(hologram, Set.of(nearID));
+        visibility.apply(hologram, near, false);
+        visibility.apply(hologram, far, false);
+        verify(hologram).hide(near);
+        verify(hologram, times(2)).hide(far);
+    }
+}
@@ -0,0 +1,72 @@
+package org.betonquest.betonquest.compatibility.holograms;
+
+import org.betonquest.betonquest.api.profile.OnlineProfile;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link PlayerChunkIndex}.
+ */
+@ExtendWith(MockitoExtension.class)
+class PlayerChunkIndexTest {
+    private OnlineProfile profileAt(final Location location) {
+        final Player player = mock(Player.class);
+        when(player.getLocation()).thenReturn(location);
+        final OnlineProfile profile = mock(OnlineProfile.class);
+        when(profile.getPlayer()).thenReturn(player);
+        when(profile.getPlayerUUID()).thenReturn(UUID.randomUUID());
+        return profile;
+    }
+
+    private List<OnlineProfile> profilesOf(final List<PlayerChunkIndex.Entry> entries) {
+        final List<OnlineProfile> profiles = new ArrayList<>();
+        for (final PlayerChunkIndex.Entry entry : entries) {
+            profiles.add(entry.profile());
+        }
+        return profiles;
+    }
+
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    @Test
+    void testOnlyPlayersInRangeAndWorldAreNear(@Mock final World world, @Mock final World otherWorld) {
+        final OnlineProfile close = profileAt(new Location(world, 105, 64, 100));
+        final OnlineProfile neighbourChunk = profileAt(new Location(world, 90, 64, 110));
+        final OnlineProfile far = profileAt(new Location(world, 5000, 64, 100));
+        final OnlineProfile elsewhere = profileAt(new Location(otherWorld, 100, 64, 100));
+        final List<OnlineProfile> profiles = new ArrayList<>(List.of(close, neighbourChunk, far, elsewhere));
+        for (int i = 0; i < 20; i++) {
+            profiles.add(profileAt(new Location(world, -3000 - i * 100, 64, 0)));
+        }
+        final PlayerChunkIndex index = PlayerChunkIndex.create(profiles);
+
+        final Location hologram = new Location(world, 100, 65, 100);
+        assertEquals(List.of(close), profilesOf(index.getNear(hologram, 8)), "Only the close player should be in range");
+        final List<OnlineProfile> near = profilesOf(index.getNear(hologram, 20));
+        assertEquals(2, near.size(), "Players of neighbour chunks should be in range");
+        assertTrue(near.containsAll(List.of(close, neighbourChunk)), "Both players in range should be found");
+        assertEquals(profiles.size(), index.getAll().size(), "All players should be indexed");
+        assertTrue(index.getPlayerIDs().contains(elsewhere.getPlayerUUID()), "Players of other worlds should be indexed");
+    }
+
+    @Test
+    void testLargeRangeChecksAllPlayersOfWorld(@Mock final World world) {
+        final OnlineProfile close = profileAt(new Location(world, 0, 64, 0));
+        final OnlineProfile far = profileAt(new Location(world, 5000, 64, 0));
+        final PlayerChunkIndex index = PlayerChunkIndex.create(List.of(close, far));
+
+        assertEquals(List.of(close), profilesOf(index.getNear(new Location(world, 10, 64, 0), 160)),
+                "Distance should be checked when scanning the whole world");
+    }
+}
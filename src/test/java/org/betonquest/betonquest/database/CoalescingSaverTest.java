@@ -0,0 +1,103 @@
+package org.betonquest.betonquest.database;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link CoalescingSaver}.
+ */
+@ExtendWith(MockitoExtension.class)
+class CoalescingSaverTest {
+    private static final String PROFILE = "profile";
+
+    private static List<Saver.Record> captureRecords(final Saver delegate, final int count) {
+        final ArgumentCaptor<Saver.Record> captor = ArgumentCaptor.forClass(Saver.Record.class);
+        verify(delegate, times(count)).add(captor.capture());
+        return captor.getAllValues();
+    }
+
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    @Test
+    void testPointChangesAreOnlyWrittenInFinalState(@Mock final Saver delegate) {
+        final CoalescingSaver saver = new CoalescingSaver(delegate);
+        for (int i = 1; i <= 10; i++) {
+            saver.add(new Saver.Record(UpdateType.REMOVE_POINTS, PROFILE, "kills"));
+            saver.add(new Saver.Record(UpdateType.ADD_POINTS, PROFILE, "kills", String.valueOf(i)));
+        }
+        verifyNoInteractions(delegate);
+
+        saver.flush();
+        final List<Saver.Record> records = captureRecords(delegate, 2);
+        assertEquals(UpdateType.REMOVE_POINTS, records.get(0).type(), "Existing points should be removed first");
+        assertEquals(UpdateType.ADD_POINTS, records.get(1).type(), "Final points should be added");
+        assertArrayEquals(new String[]{PROFILE, "kills", "10"}, records.get(1).args(), "Only the final amount should be written");
+    }
+
+    @Test
+    void testTagAddedAndRemovedIsNotWritten(@Mock final Saver delegate) {
+        final CoalescingSaver saver = new CoalescingSaver(delegate);
+        saver.add(new Saver.Record(UpdateType.ADD_TAGS, PROFILE, "tag"));
+        saver.add(new Saver.Record(UpdateType.REMOVE_TAGS, PROFILE, "tag"));
+        saver.flush();
+        verifyNoInteractions(delegate);
+    }
+
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    @Test
+    void testNewTagIsWrittenWithoutRemove(@Mock final Saver delegate) {
+        final CoalescingSaver saver = new CoalescingSaver(delegate);
+        saver.add(new Saver.Record(UpdateType.ADD_TAGS, PROFILE, "tag"));
+        saver.flush();
+        final List<Saver.Record> records = captureRecords(delegate, 1);
+        assertEquals(UpdateType.ADD_TAGS, records.get(0).type(), "New tag should be added");
+        assertArrayEquals(new String[]{PROFILE, "tag"}, records.get(0).args(), "Tag record should not contain data");
+    }
+
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    @Test
+    void testDependentRecordFlushesPendingChangesFirst(@Mock final Saver delegate) {
+        final CoalescingSaver saver = new CoalescingSaver(delegate);
+        saver.add(new Saver.Record(UpdateType.ADD_POINTS, PROFILE, "kills", "1"));
+        saver.add(new Saver.Record(UpdateType.DELETE_POINTS, PROFILE));
+        final List<Saver.Record> records = captureRecords(delegate, 2);
+        assertEquals(UpdateType.ADD_POINTS, records.get(0).type(), "Pending points should be written before deleting");
+        assertEquals(UpdateType.DELETE_POINTS, records.get(1).type(), "Delete should be passed through");
+    }
+
+    @Test
+    void testIndependentRecordIsPassedThrough(@Mock final Saver delegate) {
+        final CoalescingSaver saver = new CoalescingSaver(delegate);
+        saver.add(new Saver.Record(UpdateType.ADD_POINTS, PROFILE, "kills", "1"));
+        saver.add(new Saver.Record(UpdateType.ADD_JOURNAL, PROFILE, "pointer", "date"));
+        final List<Saver.Record> records = captureRecords(delegate, 1);
+        assertEquals(UpdateType.ADD_JOURNAL, records.get(0).type(), "Journal should be written directly");
+    }
+
+    @Test
+    void testFlushProfileOnlyWritesThatProfile(@Mock final Saver delegate) {
+        final CoalescingSaver saver = new CoalescingSaver(delegate);
+        saver.add(new Saver.Record(UpdateType.ADD_TAGS, PROFILE, "tag"));
+        saver.add(new Saver.Record(UpdateType.ADD_TAGS, "other", "tag"));
+        saver.flush(PROFILE);
+        final List<Saver.Record> records = captureRecords(delegate, 1);
+        assertEquals(PROFILE, records.get(0).args()[0], "Only the flushed profile should be written");
+    }
+
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    @Test
+    void testEndFlushesAndEndsDelegate(@Mock final Saver delegate) {
+        final CoalescingSaver saver = new CoalescingSaver(delegate);
+        saver.add(new Saver.Record(UpdateType.ADD_TAGS, PROFILE, "tag"));
+        saver.end();
+        verify(delegate).add(any());
+        verify(delegate).end();
+    }
+}
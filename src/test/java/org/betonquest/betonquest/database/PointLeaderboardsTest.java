@@ -0,0 +1,79 @@
+package org.betonquest.betonquest.database;
+
+import org.betonquest.betonquest.api.logger.BetonQuestLogger;
+import org.betonquest.betonquest.api.profile.OnlineProfile;
+import org.betonquest.betonquest.api.profile.Profile;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link PointLeaderboards}.
+ */
+@ExtendWith(MockitoExtension.class)
+class PointLeaderboardsTest {
+    private Profile onlineProfile(final String name) {
+        final Player player = mock(Player.class);
+        when(player.getName()).thenReturn(name);
+        final OnlineProfile online = mock(OnlineProfile.class);
+        when(online.getPlayer()).thenReturn(player);
+        final Profile profile = mock(Profile.class);
+        when(profile.getOnlineProfile()).thenReturn(Optional.of(online));
+        when(profile.getPlayerUUID()).thenReturn(UUID.randomUUID());
+        return profile;
+    }
+
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    @Test
+    void testUpdatesOfLoadedCategoryAreOrdered(@Mock final BetonQuestLogger log, @Mock final Plugin plugin,
+                                               @Mock final BukkitScheduler scheduler) {
+        try (MockedStatic<Bukkit> bukkit = mockStatic(Bukkit.class)) {
+            bukkit.when(Bukkit::getScheduler).thenReturn(scheduler);
+            final PointLeaderboards leaderboards = new PointLeaderboards(log, plugin, 100);
+            assertTrue(leaderboards.getTop("pack.kills", true, 3).isEmpty(), "Unloaded category should be empty");
+            verify(scheduler).runTaskAsynchronously(eq(plugin), any(Runnable.class));
+
+            final Profile alex = onlineProfile("Alex");
+            final Profile steve = onlineProfile("Steve");
+            final Profile notch = onlineProfile("Notch");
+            leaderboards.update(alex, "pack.kills", 5);
+            leaderboards.update(steve, "pack.kills", 8);
+            leaderboards.update(notch, "pack.kills", 2);
+            leaderboards.update(alex, "pack.kills", 10);
+
+            assertEquals(List.of(new PointLeaderboards.Score("Alex", 10), new PointLeaderboards.Score("Steve", 8)),
+                    leaderboards.getTop("pack.kills", true, 2), "Highest scores should come first");
+            assertEquals(List.of(new PointLeaderboards.Score("Notch", 2), new PointLeaderboards.Score("Steve", 8),
+                    new PointLeaderboards.Score("Alex", 10)), leaderboards.getTop("pack.kills", false, 5),
+                    "Lowest scores should come first");
+
+            leaderboards.remove(steve, "pack.kills");
+            assertEquals(List.of(new PointLeaderboards.Score("Alex", 10), new PointLeaderboards.Score("Notch", 2)),
+                    leaderboards.getTop("pack.kills", true, 5), "Removed scores should not be listed");
+        }
+    }
+
+    @Test
+    void testUpdatesOfUnloadedCategoryAreIgnored(@Mock final BetonQuestLogger log, @Mock final Plugin plugin,
+                                                 @Mock final BukkitScheduler scheduler, @Mock final Profile profile) {
+        try (MockedStatic<Bukkit> bukkit = mockStatic(Bukkit.class)) {
+            bukkit.when(Bukkit::getScheduler).thenReturn(scheduler);
+            final PointLeaderboards leaderboards = new PointLeaderboards(log, plugin, 100);
+            leaderboards.update(profile, "pack.kills", 5);
+            assertTrue(leaderboards.getTop("pack.kills", true, 3).isEmpty(), "Updates before loading should be ignored");
+        }
+    }
+}
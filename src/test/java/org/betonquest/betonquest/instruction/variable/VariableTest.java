@@ -0,0 +1,86 @@
+package org.betonquest.betonquest.instruction.variable;
+
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
+import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.api.quest.QuestException;
+import org.betonquest.betonquest.quest.registry.processor.VariableProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link Variable}.
+ */
+@ExtendWith(MockitoExtension.class)
+class VariableTest {
+    @Mock
+    private VariableProcessor variableProcessor;
+
+    @Mock
+    private QuestPackage questPackage;
+
+    @Mock
+    private Profile profile;
+
+    @Mock
+    private org.betonquest.betonquest.api.Variable points;
+
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    @Test
+    void testConstantInputIsResolvedOnce() throws QuestException {
+        final AtomicInteger calls = new AtomicInteger();
+        final Variable<String> variable = new Variable<>(variableProcessor, questPackage, "no variables", input -> {
+            calls.incrementAndGet();
+            return input;
+        });
+        assertTrue(variable.isConstant(), "Input without variables should be constant");
+        assertEquals("no variables", variable.getValue(profile), "Constant input should be returned");
+        assertEquals(1, calls.get(), "Constant input should only be resolved once");
+        verifyNoInteractions(variableProcessor);
+    }
+
+    @Test
+    void testSegmentsAreConcatenated() throws QuestException {
+        when(variableProcessor.create(questPackage, "%point.kills.amount%")).thenReturn(points);
+        when(points.getValue(profile)).thenReturn("5");
+        final Variable<String> variable = new Variable<>(variableProcessor, questPackage,
+                "You have %point.kills.amount% kills, %point.kills.amount% in total!", input -> input);
+        assertEquals("You have 5 kills, 5 in total!", variable.getValue(profile), "Variables should be replaced");
+    }
+
+    @Test
+    void testSameVariableIsOnlyCreatedOnce() throws QuestException {
+        when(variableProcessor.create(questPackage, "%point.kills.amount%")).thenReturn(points);
+        new Variable<>(variableProcessor, questPackage, "%point.kills.amount%/%point.kills.amount%", input -> input);
+        verify(variableProcessor, times(1)).create(questPackage, "%point.kills.amount%");
+    }
+
+    @Test
+    void testEscapedPercentIsKept() throws QuestException {
+        final Variable<String> variable = new Variable<>(variableProcessor, questPackage, "100\\% done", input -> input);
+        assertEquals("100\\% done", variable.getValue(profile), "Escaped percent should not start a variable");
+    }
+
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    @Test
+    void testResolverIsSkippedForUnchangedValue() throws QuestException {
+        when(variableProcessor.create(questPackage, "%point.kills.amount%")).thenReturn(points);
+        when(points.getValue(profile)).thenReturn("5", "5", "6");
+        final AtomicInteger calls = new AtomicInteger();
+        final Variable<Integer> variable = new Variable<>(variableProcessor, questPackage, "%point.kills.amount%", input -> {
+            calls.incrementAndGet();
+            return Integer.parseInt(input);
+        });
+        assertEquals(5, variable.getValue(profile), "First value should be resolved");
+        assertEquals(5, variable.getValue(profile), "Unchanged value should be returned");
+        assertEquals(1, calls.get(), "Unchanged value should not be resolved again");
+        assertEquals(6, variable.getValue(profile), "Changed value should be resolved");
+        assertEquals(2, calls.get(), "Changed value should be resolved again");
+    }
+}
@@ -15,6 +15,7 @@ import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 /**
@@ -103,6 +104,39 @@ class DefaultBetonQuestLoggerTest {
         verify(handler, times(1)).publish(argThat(new RecordMatcher(PACKAGE_NAME, Level.FINE, LOG_MESSAGE, IO_EXCEPTION)));
     }
 
+    @Test
+    void debugSupplierWithPackage() {
+        logger.debug(questPackage, () -> LOG_MESSAGE);
+        verify(handler, times(1)).publish(argThat(new RecordMatcher(PACKAGE_NAME, Level.FINE, LOG_MESSAGE)));
+    }
+
+    @Test
+    void debugIsDiscardedIfNotConsumed() {
+        DebugLogState.configure(false, false);
+        try {
+            logger.debug(questPackage, () -> {
+                throw new AssertionError("The message should not be created if debug records are not consumed");
+            });
+            logger.debug(questPackage, LOG_MESSAGE);
+            verifyNoInteractions(handler);
+        } finally {
+            DebugLogState.configure(true, true);
+        }
+    }
+
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    @Test
+    void debugIsEnabledIfOnlyKeptInHistory() {
+        DebugLogState.configure(false, true);
+        try {
+            assertTrue(logger.isDebugEnabled(questPackage), "Records kept in the history should be created");
+            logger.debug(questPackage, LOG_MESSAGE);
+            verify(handler, times(1)).publish(argThat(new RecordMatcher(PACKAGE_NAME, Level.FINE, LOG_MESSAGE)));
+        } finally {
+            DebugLogState.configure(true, true);
+        }
+    }
+
     @Test
     void info() {
         logger.info(LOG_MESSAGE);
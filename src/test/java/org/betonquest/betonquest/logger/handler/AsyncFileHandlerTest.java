@@ -0,0 +1,54 @@
+package org.betonquest.betonquest.logger.handler;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for a {@link AsyncFileHandler}.
+ */
+class AsyncFileHandlerTest {
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    @Test
+    void testRecordsAreWrittenInOrderOnClose(@TempDir final Path directory) throws IOException {
+        final File logFile = directory.resolve("latest.log").toFile();
+        final AtomicInteger rotations = new AtomicInteger();
+        final AsyncFileHandler handler = new AsyncFileHandler(logFile, rotations::incrementAndGet, Long.MAX_VALUE, 1024);
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.close();
+
+        final List<String> lines = Files.readAllLines(logFile.toPath(), StandardCharsets.UTF_8);
+        assertEquals(100, lines.size(), "All published records should be written");
+        assertEquals("message 0", lines.get(0), "The first record should be written first");
+        assertEquals("message 99", lines.get(99), "The last record should be written last");
+        assertEquals(1, rotations.get(), "The file should only be rotated once before opening it");
+        assertEquals(0, handler.getDroppedRecords(), "No record should be dropped");
+    }
+
+    @Test
+    void testFileIsRotatedWhenExceedingMaximumSize(@TempDir final Path directory) throws IOException {
+        final File logFile = directory.resolve("latest.log").toFile();
+        final AtomicInteger rotations = new AtomicInteger();
+        final AsyncFileHandler handler = new AsyncFileHandler(logFile, () -> {
+            rotations.incrementAndGet();
+            Files.deleteIfExists(logFile.toPath());
+        }, 16, 1024);
+        handler.publish(new LogRecord(Level.INFO, "a message longer than the maximum size"));
+        handler.close();
+
+        assertEquals(2, rotations.get(), "The file should be rotated after exceeding the maximum size");
+    }
+}
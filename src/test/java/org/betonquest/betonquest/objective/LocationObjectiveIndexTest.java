@@ -0,0 +1,53 @@
+package org.betonquest.betonquest.objective;
+
+import org.betonquest.betonquest.BetonQuest;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.plugin.PluginManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link LocationObjectiveIndex}.
+ */
+@ExtendWith(MockitoExtension.class)
+class LocationObjectiveIndexTest {
+    @Test
+    void testRespawnOutsideChecksObjectivesAroundDeathLocation(@Mock final PluginManager pluginManager, @Mock final World world,
+                                                               @Mock final AbstractLocationObjective objective,
+                                                               @Mock final Player player, @Mock final PlayerRespawnEvent event) {
+        try (MockedStatic<Bukkit> bukkit = mockStatic(Bukkit.class);
+             MockedStatic<BetonQuest> ignored = mockStatic(BetonQuest.class);
+             MockedStatic<HandlerList> ignoredHandlerList = mockStatic(HandlerList.class)) {
+            bukkit.when(Bukkit::getPluginManager).thenReturn(pluginManager);
+            when(world.getName()).thenReturn("world");
+            LocationObjectiveIndex.register(objective, new LocationObjectiveIndex.Area("world", 0, 0, 0, 0));
+            try {
+                final ArgumentCaptor<Listener> listener = ArgumentCaptor.forClass(Listener.class);
+                verify(pluginManager).registerEvents(listener.capture(), any());
+                final Location death = new Location(world, 8, 64, 8);
+                final Location respawn = new Location(world, 1000, 64, 1000);
+                when(player.getLocation()).thenReturn(death);
+                when(event.getPlayer()).thenReturn(player);
+                when(event.getRespawnLocation()).thenReturn(respawn);
+
+                ((LocationObjectiveIndex) listener.getValue()).onPlayerRespawn(event);
+
+                verify(objective).checkLocation(player, death, respawn);
+            } finally {
+                LocationObjectiveIndex.unregister(objective);
+            }
+        }
+    }
+}
@@ -13,6 +13,8 @@ import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.UUID;
+
 import static org.mockito.Mockito.*;
 
 /**
@@ -25,7 +27,9 @@ class JournalEventTest {
     void testJournalEventChangesUpdatesAndNotifiesInOrder(
             @Mock final PlayerDataStorage dataStorage, @Mock final PlayerData data, @Mock final Journal journal,
             @Mock final JournalChanger changer, @Mock final NotificationSender sender) {
-        final OnlineProfile onlineProfile = PlayerConverter.getID(mock(Player.class));
+        final Player player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        final OnlineProfile onlineProfile = PlayerConverter.getID(player);
         when(dataStorage.getOffline(onlineProfile)).thenReturn(data);
         when(data.getJournal()).thenReturn(journal);
 
@@ -0,0 +1,58 @@
+package org.betonquest.betonquest.quest.registry.processor;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link PrimaryThreadBatch}.
+ */
+@ExtendWith(MockitoExtension.class)
+class PrimaryThreadBatchTest {
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    @Test
+    void testTasksOfOneTickShareOneScheduledTask(@Mock final Plugin plugin, @Mock final BukkitScheduler scheduler)
+            throws ExecutionException, InterruptedException {
+        try (MockedStatic<Bukkit> bukkit = mockStatic(Bukkit.class)) {
+            bukkit.when(Bukkit::getScheduler).thenReturn(scheduler);
+            final PrimaryThreadBatch batch = new PrimaryThreadBatch(plugin);
+
+            final CompletableFuture<Boolean> first = batch.submit(() -> true);
+            final CompletableFuture<Boolean> second = batch.submit(() -> false);
+            final ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+            verify(scheduler, times(1)).runTask(eq(plugin), task.capture());
+            assertFalse(first.isDone(), "Tasks should not run before the scheduled task");
+
+            task.getValue().run();
+            assertTrue(first.get(), "First task should be completed with its result");
+            assertFalse(second.get(), "Second task should be completed with its result");
+
+            batch.submit(() -> true);
+            verify(scheduler, times(2)).runTask(eq(plugin), any(Runnable.class));
+        }
+    }
+
+    @Test
+    void testFailedSchedulingCompletesTasksExceptionally(@Mock final Plugin plugin, @Mock final BukkitScheduler scheduler) {
+        try (MockedStatic<Bukkit> bukkit = mockStatic(Bukkit.class)) {
+            bukkit.when(Bukkit::getScheduler).thenReturn(scheduler);
+            when(scheduler.runTask(eq(plugin), any(Runnable.class))).thenThrow(new IllegalStateException("disabled"));
+            final PrimaryThreadBatch batch = new PrimaryThreadBatch(plugin);
+
+            final CompletableFuture<Boolean> future = batch.submit(() -> true);
+            assertThrows(ExecutionException.class, future::get, "Task should fail if it cannot be scheduled");
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.betonquest.betonquest.quest.variable.eval;
+
+import org.betonquest.betonquest.api.Variable;
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
+import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.api.quest.QuestException;
+import org.betonquest.betonquest.instruction.variable.VariableString;
+import org.betonquest.betonquest.quest.registry.processor.VariableProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link EvalVariable}.
+ */
+@ExtendWith(MockitoExtension.class)
+class EvalVariableTest {
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    @Test
+    void testEvaluatedVariableIsCompiledOnce(@Mock final VariableProcessor variableProcessor, @Mock final QuestPackage pack,
+                                             @Mock final VariableString evaluation, @Mock final Variable variable,
+                                             @Mock final Profile profile) throws QuestException {
+        when(evaluation.getValue(profile)).thenReturn("point.test.amount");
+        when(variableProcessor.create(pack, "%point.test.amount%")).thenReturn(variable);
+        when(variable.getValue(profile)).thenReturn("5");
+        final EvalVariable eval = new EvalVariable(variableProcessor, pack, evaluation);
+
+        assertEquals("5", eval.getValue(profile), "The evaluated variable should be resolved");
+        assertEquals("5", eval.getValue(profile), "The cached variable should be resolved");
+
+        verify(variableProcessor, times(1)).create(pack, "%point.test.amount%");
+        assertEquals(1, eval.getCacheHits(), "The second evaluation should hit the cache");
+        assertEquals(1, eval.getCacheMisses(), "The first evaluation should miss the cache");
+        assertEquals(0.5, eval.getCacheHitRate(), "Half of the evaluations should hit the cache");
+    }
+
+    @Test
+    void testFailedCompilationIsNotCached(@Mock final VariableProcessor variableProcessor, @Mock final QuestPackage pack,
+                                          @Mock final VariableString evaluation) throws QuestException {
+        when(evaluation.getValue(null)).thenReturn("unknown");
+        when(variableProcessor.create(pack, "%unknown%")).thenThrow(new QuestException("not registered"));
+        final EvalVariable eval = new EvalVariable(variableProcessor, pack, evaluation);
+
+        assertThrows(QuestException.class, () -> eval.getValue(null), "The first evaluation should fail");
+        assertThrows(QuestException.class, () -> eval.getValue(null), "The second evaluation should fail again");
+        verify(variableProcessor, times(2)).create(pack, "%unknown%");
+    }
+}
@@ -0,0 +1,65 @@
+package org.betonquest.betonquest.util;
+
+import org.betonquest.betonquest.api.profile.OnlineProfile;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test {@link PlayerConverter}.
+ */
+@ExtendWith(MockitoExtension.class)
+class PlayerConverterTest {
+    @Test
+    void testSameProfileIsReturnedForPlayer(@Mock final Player player) {
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(player.isOnline()).thenReturn(true);
+        assertSame(PlayerConverter.getID(player), PlayerConverter.getID(player), "The profile of a player should be cached");
+    }
+
+    @Test
+    void testProfileOfOfflinePlayerIsNotCached(@Mock final Player player) {
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        assertNotSame(PlayerConverter.getID(player), PlayerConverter.getID(player), "The profile of a player that left should not be cached");
+    }
+
+    @Test
+    void testNewProfileIsCreatedAfterRemoval(@Mock final Player player) {
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(player.isOnline()).thenReturn(true);
+        final OnlineProfile profile = PlayerConverter.getID(player);
+        PlayerConverter.removeProfile(player);
+        assertNotSame(profile, PlayerConverter.getID(player), "The profile should be created again after the player left");
+    }
+
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    @Test
+    void testNewProfileIsCreatedForRejoinedPlayer(@Mock final Player player, @Mock final Player rejoined) {
+        final UUID uuid = UUID.randomUUID();
+        when(player.getUniqueId()).thenReturn(uuid);
+        when(rejoined.getUniqueId()).thenReturn(uuid);
+        final OnlineProfile profile = PlayerConverter.getID(player);
+        final OnlineProfile rejoinedProfile = PlayerConverter.getID(rejoined);
+        assertSame(rejoined, rejoinedProfile.getPlayer(), "The profile should hold the current player object");
+        assertEquals(profile, rejoinedProfile, "Profiles of the same player should be equal");
+    }
+
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    @Test
+    void testOnlineProfileEqualsOfflineProfile(@Mock final Player player, @Mock final OfflinePlayer offlinePlayer) {
+        final UUID uuid = UUID.randomUUID();
+        when(player.getUniqueId()).thenReturn(uuid);
+        when(offlinePlayer.getUniqueId()).thenReturn(uuid);
+        final OnlineProfile onlineProfile = PlayerConverter.getID(player);
+        assertEquals(onlineProfile, PlayerConverter.getID(offlinePlayer), "Online profile should equal the offline profile");
+        assertEquals(onlineProfile.hashCode(), PlayerConverter.getID(offlinePlayer).hashCode(), "Hashes should be equal");
+    }
+}
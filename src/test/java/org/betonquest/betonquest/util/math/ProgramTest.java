@@ -0,0 +1,81 @@
+package org.betonquest.betonquest.util.math;
+
+import org.betonquest.betonquest.api.Variable;
+import org.betonquest.betonquest.api.config.quest.QuestPackage;
+import org.betonquest.betonquest.api.profile.Profile;
+import org.betonquest.betonquest.api.quest.QuestException;
+import org.betonquest.betonquest.logger.util.BetonQuestLoggerService;
+import org.betonquest.betonquest.quest.registry.processor.VariableProcessor;
+import org.betonquest.betonquest.util.math.tokens.Token;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test the {@link Program}.
+ */
+@SuppressWarnings("deprecation")
+@ExtendWith(BetonQuestLoggerService.class)
+class ProgramTest {
+    /**
+     * Precision up to which to check equality of floating point numbers.
+     */
+    private static final double REQUIRED_DOUBLE_PRECISION = 1E-7;
+
+    /**
+     * The profile to use for variable resolution.
+     */
+    private final Profile profile = mock(Profile.class);
+
+    /**
+     * The package we assume to be inside for variable resolution.
+     */
+    private final QuestPackage pack = mock(QuestPackage.class);
+
+    /**
+     * The variable processor to use for variable resolution.
+     */
+    private final VariableProcessor variableProcessor = mock(VariableProcessor.class);
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1+2*3", "(1+2)*3", "-(4-10)", "|3-8|*2", "2^3^2", "10%4+7/2", "1.2345~2", "a*b+c",
+            "-a+|b-c|", "(a+1)*(a-1)", "a^2/b%c", "{a}~1+2*3", "[a-b]*-(c+4)"})
+    void testProgramResolvesLikeTokenTree(final String calculation) throws QuestException {
+        withVariable("a", "7.5");
+        withVariable("b", "-3");
+        withVariable("c", "4");
+        final Token token = new Tokenizer(variableProcessor, pack).tokenize(calculation);
+
+        assertEquals(token.resolve(profile), Program.compile(token).evaluate(profile), REQUIRED_DOUBLE_PRECISION,
+                "the compiled program should resolve to the same value as the token tree");
+    }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void testConstantsAreFolded() throws QuestException {
+        final Program program = Program.compile(new Tokenizer(variableProcessor, pack).tokenize("(2+3)*-|4-6|"));
+
+        assertTrue(program.isConstant(), "a calculation without variables should be constant");
+        assertEquals(-10, program.evaluate(null), REQUIRED_DOUBLE_PRECISION, "the folded constant should be correct");
+    }
+
+    @Test
+    void testEqualVariablesAreResolvedOnce() throws QuestException {
+        final Variable variable = withVariable("a", "3");
+        final Program program = Program.compile(new Tokenizer(variableProcessor, pack).tokenize("a*a+a"));
+
+        assertEquals(12, program.evaluate(profile), REQUIRED_DOUBLE_PRECISION, "the program should resolve the variable");
+        verify(variable, times(1)).getValue(profile);
+    }
+
+    private Variable withVariable(final String key, final String value) throws QuestException {
+        final Variable variable = mock(Variable.class);
+        lenient().when(variable.getValue(profile)).thenReturn(value);
+        lenient().when(variableProcessor.create(pack, "%" + key + "%")).thenReturn(variable);
+        return variable;
+    }
+}